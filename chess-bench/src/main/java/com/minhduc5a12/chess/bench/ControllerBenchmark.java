@@ -0,0 +1,60 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.ChessController;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.utils.SoundPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChessController.executeMove không giao diện: mỗi lần gọi dựng lại thế cờ ban đầu rồi đi một đoạn khai cuộc.
+ * setupInitialPosition được đo riêng để trừ ra khi so sánh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Dchess.sound=false"})
+public class ControllerBenchmark {
+    // Gambit Hậu, biến đổi quân: có bắt quân, không nhập thành vì executeMove chỉ đi quân thường
+    private static final String[] OPENING = {
+            "d2d4", "d7d5", "c2c4", "e7e6", "b1c3", "g8f6", "c4d5", "e6d5", "c1g5", "f8e7",
+            "e2e3", "c7c6", "f1d3", "b8d7", "d1c2", "h7h6", "g5h4", "f6h5", "h4e7", "d8e7"
+    };
+
+    private ChessController controller;
+    private ChessMove[] moves;
+
+    @Setup
+    public void setup() {
+        SoundPlayer.setEnabled(false);
+        controller = new ChessController();
+        moves = new ChessMove[OPENING.length];
+        for (int i = 0; i < OPENING.length; i++) {
+            moves[i] = new ChessMove(ChessPosition.toChessPosition(OPENING[i].substring(0, 2)), ChessPosition.toChessPosition(OPENING[i].substring(2)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        controller.shutdown();
+    }
+
+    @Benchmark
+    public ChessController setupInitialPosition() {
+        controller.setupInitialPosition();
+        return controller;
+    }
+
+    @Benchmark
+    public ChessController executeOpening() {
+        controller.setupInitialPosition();
+        for (ChessMove move : moves) {
+            controller.executeMove(move);
+        }
+        return controller;
+    }
+}
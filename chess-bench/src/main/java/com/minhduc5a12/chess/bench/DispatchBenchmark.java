@@ -0,0 +1,56 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.bitboard.Bitboards;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import com.minhduc5a12.chess.pieces.PieceMoves;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * So sánh gọi ảo ChessPiece.generateValidMoves với PieceMoves.generate (switch trên PieceType).
+ * Mọi quân của corpus nằm chung một danh sách nên nơi gọi ảo thấy đủ sáu lớp quân (megamorphic).
+ * Xem quyết định inline: thêm {@code -jvmArgsAppend "-XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private final List<ChessPiece> pieces = new ArrayList<>();
+    private final List<ChessPosition> squares = new ArrayList<>();
+    private final List<ChessPieceMap> maps = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        for (ChessPieceMap map : PositionCorpus.pieceMaps()) {
+            for (long bb = map.getPosition().occupied(); bb != 0; bb &= bb - 1) {
+                ChessPosition square = Bitboards.toPosition(Bitboards.lsb(bb));
+                pieces.add(map.getPiece(square));
+                squares.add(square);
+                maps.add(map);
+            }
+        }
+    }
+
+    @Benchmark
+    public void virtualCall(Blackhole bh) {
+        for (int i = 0; i < pieces.size(); i++) {
+            bh.consume(pieces.get(i).generateValidMoves(squares.get(i), maps.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void enumSwitch(Blackhole bh) {
+        for (int i = 0; i < pieces.size(); i++) {
+            bh.consume(PieceMoves.generate(pieces.get(i), squares.get(i), maps.get(i)));
+        }
+    }
+}
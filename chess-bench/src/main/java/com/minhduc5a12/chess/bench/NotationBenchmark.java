@@ -0,0 +1,81 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.bitboard.Zobrist;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import com.minhduc5a12.chess.utils.ChessNotationUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ghi/đọc FEN và khóa Zobrist (khóa lặp lại thay cho partial FEN trước đây) trên toàn bộ corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotationBenchmark {
+    private final ChessNotationUtils notationUtils = new ChessNotationUtils();
+    private List<String> fens;
+    private ChessPieceMap[] maps;
+    private final BitboardPosition scratch = new BitboardPosition();
+    private final StringBuilder builder = new StringBuilder(Fen.MAX_LENGTH);
+    private final byte[] buffer = new byte[Fen.MAX_LENGTH];
+
+    @Setup
+    public void setup() {
+        fens = PositionCorpus.fens();
+        maps = PositionCorpus.pieceMaps();
+    }
+
+    @Benchmark
+    public void getFEN(Blackhole bh) {
+        for (ChessPieceMap map : maps) {
+            bh.consume(notationUtils.getFEN(map));
+        }
+    }
+
+    @Benchmark
+    public void parseFEN(Blackhole bh) {
+        for (String fen : fens) {
+            bh.consume(Fen.parse(fen));
+        }
+    }
+
+    // Đọc vào một thế cờ dùng lại và ghi vào bộ đệm dùng lại: không cấp phát
+    @Benchmark
+    public void parseFENInto(Blackhole bh) {
+        for (String fen : fens) {
+            Fen.parse(fen, scratch);
+            bh.consume(scratch.getHash());
+        }
+    }
+
+    @Benchmark
+    public void writeFENToBuilder(Blackhole bh) {
+        for (ChessPieceMap map : maps) {
+            builder.setLength(0);
+            bh.consume(Fen.write(map.getPosition(), builder).length());
+        }
+    }
+
+    @Benchmark
+    public void writeFENToBytes(Blackhole bh) {
+        for (ChessPieceMap map : maps) {
+            bh.consume(Fen.write(map.getPosition(), buffer, 0));
+        }
+    }
+
+    @Benchmark
+    public void computeZobristKey(Blackhole bh) {
+        for (ChessPieceMap map : maps) {
+            bh.consume(Zobrist.compute(map.getPosition()));
+        }
+    }
+}
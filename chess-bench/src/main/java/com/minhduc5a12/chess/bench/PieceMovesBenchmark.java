@@ -0,0 +1,54 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Bitboards;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * generateValidMoves của từng loại quân, gọi cho mọi quân loại đó trong corpus (cả hai màu).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceMovesBenchmark {
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    public PieceType pieceType;
+
+    private final List<ChessPiece> pieces = new ArrayList<>();
+    private final List<ChessPosition> squares = new ArrayList<>();
+    private final List<ChessPieceMap> maps = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        for (ChessPieceMap map : PositionCorpus.pieceMaps()) {
+            BitboardPosition position = map.getPosition();
+            for (int color = BitboardPosition.WHITE; color <= BitboardPosition.BLACK; color++) {
+                for (long bb = position.pieces(pieceType.ordinal(), color); bb != 0; bb &= bb - 1) {
+                    ChessPosition square = Bitboards.toPosition(Bitboards.lsb(bb));
+                    pieces.add(map.getPiece(square));
+                    squares.add(square);
+                    maps.add(map);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateValidMoves(Blackhole bh) {
+        for (int i = 0; i < pieces.size(); i++) {
+            bh.consume(pieces.get(i).generateValidMoves(squares.get(i), maps.get(i)));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Danh sách thế cờ thực tế (positions.fen) dùng chung cho các benchmark
+public final class PositionCorpus {
+    private static final String RESOURCE = "positions.fen";
+
+    private PositionCorpus() {
+        throw new AssertionError("Cannot instantiate PositionCorpus class");
+    }
+
+    public static List<String> fens() {
+        InputStream input = PositionCorpus.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (input == null) {
+            throw new IllegalStateException("Corpus not found: " + RESOURCE);
+        }
+        List<String> fens = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    fens.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return fens;
+    }
+
+    public static ChessPieceMap[] pieceMaps() {
+        List<String> fens = fens();
+        ChessPieceMap[] maps = new ChessPieceMap[fens.size()];
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = ChessPieceMap.fromPosition(Fen.parse(fens.get(i)));
+        }
+        return maps;
+    }
+}
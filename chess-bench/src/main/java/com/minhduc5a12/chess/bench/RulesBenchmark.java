@@ -0,0 +1,83 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import com.minhduc5a12.chess.utils.BoardUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Các truy vấn luật cờ trong BoardUtils, mỗi lần gọi duyệt toàn bộ corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+    private ChessPieceMap[] maps;
+    private PieceColor[] sides;
+    private List<ChessMove> simulatedMoves;
+    private List<ChessPieceMap> simulatedMaps;
+
+    @Setup
+    public void setup() {
+        maps = PositionCorpus.pieceMaps();
+        sides = new PieceColor[maps.length];
+        simulatedMoves = new ArrayList<>();
+        simulatedMaps = new ArrayList<>();
+        for (int i = 0; i < maps.length; i++) {
+            sides[i] = maps[i].getPosition().getSideToMove() == BitboardPosition.WHITE ? PieceColor.WHITE : PieceColor.BLACK;
+            // Nước hợp lệ đầu tiên của mỗi thế cờ (nếu có) để đo simulateMove
+            List<ChessMove> moves = new ArrayList<>();
+            MoveGenerator.generateLegalMoves(maps[i].getPosition(), moves);
+            if (!moves.isEmpty()) {
+                simulatedMoves.add(moves.get(0));
+                simulatedMaps.add(maps[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void isKingInCheck(Blackhole bh) {
+        for (int i = 0; i < maps.length; i++) {
+            bh.consume(BoardUtils.isKingInCheck(sides[i], maps[i]));
+        }
+    }
+
+    @Benchmark
+    public void isCheckmate(Blackhole bh) {
+        for (int i = 0; i < maps.length; i++) {
+            bh.consume(BoardUtils.isCheckmate(sides[i], maps[i]));
+        }
+    }
+
+    @Benchmark
+    public void isStalemate(Blackhole bh) {
+        for (int i = 0; i < maps.length; i++) {
+            bh.consume(BoardUtils.isStalemate(sides[i], maps[i]));
+        }
+    }
+
+    @Benchmark
+    public void isDeadPosition(Blackhole bh) {
+        for (ChessPieceMap map : maps) {
+            bh.consume(BoardUtils.isDeadPosition(map));
+        }
+    }
+
+    @Benchmark
+    public void simulateMove(Blackhole bh) {
+        for (int i = 0; i < simulatedMoves.size(); i++) {
+            bh.consume(BoardUtils.simulateMove(simulatedMoves.get(i), simulatedMaps.get(i)));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.minhduc5a12.chess.bench;
+
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.engine.Search;
+import com.minhduc5a12.chess.engine.SearchLimits;
+import com.minhduc5a12.chess.engine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tìm kiếm độ sâu cố định trên toàn bộ corpus, mỗi thế cờ bắt đầu với bảng chuyển vị trống.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+    @Param({"3"})
+    private int depth;
+
+    private List<String> fens;
+    private final TranspositionTable table = new TranspositionTable(1);
+
+    @Setup
+    public void setup() {
+        fens = PositionCorpus.fens();
+    }
+
+    @Benchmark
+    public void fixedDepth(Blackhole bh) {
+        for (String fen : fens) {
+            table.clear();
+            bh.consume(new Search(Fen.parse(fen), table).run(SearchLimits.ofDepth(depth)));
+        }
+    }
+}
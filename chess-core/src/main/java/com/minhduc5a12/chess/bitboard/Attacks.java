@@ -0,0 +1,233 @@
+package com.minhduc5a12.chess.bitboard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Bảng tấn công cho quân trượt (Xe, Tượng, Hậu) dùng magic bitboard, khởi tạo một lần khi nạp lớp.
+// Các số magic được tìm sẵn (xorshift64*) nên lúc khởi động chỉ cần điền bảng.
+// Mã, Vua và Tốt dùng bảng 64 ô tính sẵn, cả dạng bitboard lẫn danh sách ô đích.
+public final class Attacks {
+    private static final Logger logger = LoggerFactory.getLogger(Attacks.class);
+
+    private static final int[][] ROOK_DIRECTIONS = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    private static final long[] ROOK_MASKS = new long[64];
+    private static final long[] ROOK_MAGICS = {
+            0x1080004008801020L, 0x0840092002C03000L, 0x1900200010400900L, 0x0880100008000480L,
+            0x4200100420080200L, 0x8100020100080400L, 0x0200040110886200L, 0x0200008040220411L,
+            0x0404800084400220L, 0x0000401000402000L, 0x0086001081220440L, 0x0408800800100280L,
+            0x000A001201040820L, 0x8848800200840080L, 0x4001000100040200L, 0x0442000102105084L,
+            0x9080010020804100L, 0x0040404000201009L, 0x0000808010002009L, 0x2200090021D00100L,
+            0x0008008008040080L, 0x0004004002010040L, 0x0011040008015042L, 0x00000A0001768104L,
+            0x0000800080204009L, 0x2010004140002001L, 0x9800200280100080L, 0x1000100080080080L,
+            0x0050500500080100L, 0x0000020080040080L, 0x0C10010400420810L, 0x1040008200005104L,
+            0x01808240088004A0L, 0x0882804004802000L, 0x0880402001001100L, 0x2000210409001000L,
+            0x2000480131001500L, 0x0000800400800200L, 0x000002380C001003L, 0x4600084882000431L,
+            0x0080002000504000L, 0x0300500020004002L, 0x0040408200220011L, 0x0010040008004040L,
+            0x0000080004008080L, 0x0010040002008080L, 0x2012004881020004L, 0x8300842444820011L,
+            0x0088403882010200L, 0x0820400080210100L, 0x0110910040A00300L, 0x0801100280080480L,
+            0x0242009008200600L, 0x1002000489500200L, 0x0040800200010080L, 0x0091800041000080L,
+            0x0000209300488001L, 0x04C1002414824001L, 0x020020000B001041L, 0x7000100004200901L,
+            0x8002002004100802L, 0x30010002084C0007L, 0x0888221800813004L, 0x4000002840840112L
+    };
+    private static final int[] ROOK_SHIFTS = new int[64];
+    private static final long[][] ROOK_TABLE = new long[64][];
+
+    // Các ô nằm giữa hai ô thẳng hàng, và cả đường thẳng đi qua chúng
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+    private static final long[][] PAWN_ATTACKS = new long[2][64];
+    private static final int[][] KNIGHT_TARGETS = new int[64][];
+    private static final int[][] KING_TARGETS = new int[64][];
+
+    private static final long[] BISHOP_MASKS = new long[64];
+    private static final long[] BISHOP_MAGICS = {
+            0x20C0090901061081L, 0x0024040094030104L, 0x8210810200290200L, 0x0011040484620000L,
+            0x0081104002221000L, 0x0009012011001350L, 0x0081010802400380L, 0x0000420210010408L,
+            0x0008105002280050L, 0x0001028484040044L, 0x2A00880810408804L, 0x7020022282000100L,
+            0x0084040420100A50L, 0x000401010840E000L, 0x2020020210420888L, 0x0008084202012010L,
+            0x2010400810018800L, 0x0445122008020840L, 0x0804100808002008L, 0x0008002104110100L,
+            0x0061005820080800L, 0x2001000200820100L, 0x480C210084010800L, 0x3004442500480420L,
+            0x1010102240048100L, 0x00182009084220A3L, 0x8803090A10004205L, 0x0208080040202020L,
+            0x000C044084010040L, 0x00A1010002004106L, 0x6008210020640202L, 0x1600902112860801L,
+            0x00042008C1220200L, 0x010C042002440140L, 0x5022080200040820L, 0x0402004042940100L,
+            0x0860108400008020L, 0x000C080022021000L, 0x0264080652822100L, 0x4005031221010401L,
+            0x0004502410008400L, 0x000500B010A20400L, 0x0415094050080800L, 0x080000201800A104L,
+            0x4022A80304000110L, 0x4012140802028020L, 0x40200104010100A0L, 0x12810806008B0C41L,
+            0x0020441008080000L, 0x2002120084045420L, 0x0704020062080002L, 0x0000001084040001L,
+            0x0322200891240200L, 0xF040200210024800L, 0x0140824832008042L, 0x000210020A004602L,
+            0x0083042805141020L, 0x002C12009A011000L, 0x0041A00044140400L, 0x00004004020A0202L,
+            0x0000140010020210L, 0x2864160811012200L, 0x2060080841082A17L, 0xA010041108003100L
+    };
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    private static final long[][] BISHOP_TABLE = new long[64][];
+
+    static {
+        long startTime = System.nanoTime();
+        for (int square = 0; square < 64; square++) {
+            initTable(square, ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_TABLE);
+            initTable(square, BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_TABLE);
+            initLeaperTables(square);
+        }
+        for (int a = 0; a < 64; a++) {
+            for (int b = 0; b < 64; b++) {
+                initLine(a, b);
+            }
+        }
+        logger.debug("Magic attack tables initialized in {} ms", (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private Attacks() {
+        throw new AssertionError("Cannot instantiate Attacks class");
+    }
+
+    public static void preload() {
+        // Gọi để buộc khởi tạo bảng ngay khi khởi động thay vì ở nước đi đầu tiên
+    }
+
+    public static long rookAttacks(int square, long occupied) {
+        return ROOK_TABLE[square][(int) (((occupied & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    public static long bishopAttacks(int square, long occupied) {
+        return BISHOP_TABLE[square][(int) (((occupied & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    public static long queenAttacks(int square, long occupied) {
+        return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    // Các ô mà một con tốt màu color đứng ở square tấn công
+    public static long pawnAttacks(int color, int square) {
+        return PAWN_ATTACKS[color][square];
+    }
+
+    // Danh sách ô đích dùng chung, không được sửa mảng trả về
+    public static int[] knightTargets(int square) {
+        return KNIGHT_TARGETS[square];
+    }
+
+    public static int[] kingTargets(int square) {
+        return KING_TARGETS[square];
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    private static void initLeaperTables(int square) {
+        long bit = 1L << square;
+        long oneStep = ((bit << 1) & ~Bitboards.FILE_A) | ((bit >>> 1) & ~Bitboards.FILE_H);
+        long twoSteps = ((bit << 2) & ~(Bitboards.FILE_A | Bitboards.FILE_B)) | ((bit >>> 2) & ~(Bitboards.FILE_G | Bitboards.FILE_H));
+        KNIGHT_ATTACKS[square] = (oneStep << 16) | (oneStep >>> 16) | (twoSteps << 8) | (twoSteps >>> 8);
+
+        long row = bit | oneStep;
+        KING_ATTACKS[square] = oneStep | (row << 8) | (row >>> 8);
+
+        PAWN_ATTACKS[BitboardPosition.WHITE][square] = ((bit << 7) & ~Bitboards.FILE_H) | ((bit << 9) & ~Bitboards.FILE_A);
+        PAWN_ATTACKS[BitboardPosition.BLACK][square] = ((bit >>> 9) & ~Bitboards.FILE_H) | ((bit >>> 7) & ~Bitboards.FILE_A);
+
+        KNIGHT_TARGETS[square] = toSquares(KNIGHT_ATTACKS[square]);
+        KING_TARGETS[square] = toSquares(KING_ATTACKS[square]);
+    }
+
+    private static int[] toSquares(long bitboard) {
+        int[] squares = new int[Long.bitCount(bitboard)];
+        for (int i = 0; bitboard != 0; bitboard &= bitboard - 1) {
+            squares[i++] = Long.numberOfTrailingZeros(bitboard);
+        }
+        return squares;
+    }
+
+    private static void initLine(int a, int b) {
+        if (a == b) {
+            return;
+        }
+        long bitA = 1L << a;
+        long bitB = 1L << b;
+        if ((rookAttacks(a, 0L) & bitB) != 0) {
+            BETWEEN[a][b] = rookAttacks(a, bitB) & rookAttacks(b, bitA);
+            LINE[a][b] = (rookAttacks(a, 0L) & rookAttacks(b, 0L)) | bitA | bitB;
+        } else if ((bishopAttacks(a, 0L) & bitB) != 0) {
+            BETWEEN[a][b] = bishopAttacks(a, bitB) & bishopAttacks(b, bitA);
+            LINE[a][b] = (bishopAttacks(a, 0L) & bishopAttacks(b, 0L)) | bitA | bitB;
+        }
+    }
+
+    private static void initTable(int square, int[][] directions, long[] masks, long[] magics, int[] shifts, long[][] tables) {
+        long mask = relevantOccupancy(square, directions);
+        int bits = Long.bitCount(mask);
+        long[] table = new long[1 << bits];
+        boolean[] filled = new boolean[table.length];
+
+        // Duyệt mọi tập con của mask (Carry-Rippler)
+        long subset = 0;
+        do {
+            long attacks = slidingAttacks(square, subset, directions);
+            int index = (int) ((subset * magics[square]) >>> (64 - bits));
+            if (filled[index] && table[index] != attacks) {
+                throw new IllegalStateException("Magic collision at square " + square);
+            }
+            filled[index] = true;
+            table[index] = attacks;
+            subset = (subset - mask) & mask;
+        } while (subset != 0);
+
+        masks[square] = mask;
+        shifts[square] = 64 - bits;
+        tables[square] = table;
+    }
+
+    // Các ô ảnh hưởng tới đường đi, bỏ qua ô ở mép vì quân ở đó không chặn thêm ô nào
+    private static long relevantOccupancy(int square, int[][] directions) {
+        long mask = 0L;
+        for (int[] dir : directions) {
+            int col = Bitboards.col(square) + dir[0];
+            int row = Bitboards.row(square) + dir[1];
+            while (isInside(col + dir[0], row + dir[1])) {
+                mask |= Bitboards.bit(Bitboards.square(col, row));
+                col += dir[0];
+                row += dir[1];
+            }
+        }
+        return mask;
+    }
+
+    private static long slidingAttacks(int square, long occupied, int[][] directions) {
+        long attacks = 0L;
+        for (int[] dir : directions) {
+            int col = Bitboards.col(square) + dir[0];
+            int row = Bitboards.row(square) + dir[1];
+            while (isInside(col, row)) {
+                long bit = Bitboards.bit(Bitboards.square(col, row));
+                attacks |= bit;
+                if ((occupied & bit) != 0) {
+                    break;
+                }
+                col += dir[0];
+                row += dir[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean isInside(int col, int row) {
+        return col >= 0 && col < 8 && row >= 0 && row < 8;
+    }
+}
@@ -0,0 +1,481 @@
+package com.minhduc5a12.chess.bitboard;
+
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+
+import java.util.Arrays;
+
+public class BitboardPosition {
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+    public static final int NO_PIECE = -1;
+    public static final int NO_SQUARE = -1;
+
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+    public static final int ALL_CASTLING = 15;
+
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KNIGHT = PieceType.KNIGHT.ordinal();
+    private static final int BISHOP = PieceType.BISHOP.ordinal();
+    private static final int ROOK = PieceType.ROOK.ordinal();
+    private static final int QUEEN = PieceType.QUEEN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+
+    private static final int NORMAL_MOVE = 0;
+    private static final int EN_PASSANT_MOVE = 1;
+    private static final int CASTLING_MOVE = 2;
+    private static final int PROMOTION_MOVE = 3;
+
+    // Quyền nhập thành còn lại khi một quân rời khỏi hoặc bị bắt tại ô tương ứng
+    private static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK, ALL_CASTLING);
+        CASTLING_MASK[0] = ~WHITE_QUEENSIDE & ALL_CASTLING;
+        CASTLING_MASK[4] = ~(WHITE_KINGSIDE | WHITE_QUEENSIDE) & ALL_CASTLING;
+        CASTLING_MASK[7] = ~WHITE_KINGSIDE & ALL_CASTLING;
+        CASTLING_MASK[56] = ~BLACK_QUEENSIDE & ALL_CASTLING;
+        CASTLING_MASK[60] = ~(BLACK_KINGSIDE | BLACK_QUEENSIDE) & ALL_CASTLING;
+        CASTLING_MASK[63] = ~BLACK_KINGSIDE & ALL_CASTLING;
+    }
+
+    // 12 bitboard theo mã quân: color * 6 + type
+    private final long[] pieceBoards = new long[12];
+    private final long[] colorBoards = new long[2];
+    private long occupied;
+    private final byte[] mailbox = new byte[64];
+    private int sideToMove = WHITE;
+    private int castlingRights = 0;
+    private int enPassantSquare = NO_SQUARE;
+    private int halfmoveClock = 0;
+    private int fullmoveNumber = 1;
+
+    // Khóa Zobrist cập nhật dần; enPassantKey là phần khóa của ô en passant đang được XOR vào
+    private long hash;
+    private long enPassantKey;
+
+    // Điểm vật chất (Tốt 1 ... Hậu 9) và vật chất + bảng ô (centipawn) của từng bên, cập nhật cùng mỗi thay đổi quân
+    private final int[] material = new int[2];
+    private final int[] psqScores = new int[2];
+
+    // Ngăn xếp hoàn tác, mỗi phần tử là một nước đã đi bằng makeMove
+    private int[] undoMoves = new int[64];
+    private int[] undoStates = new int[64];
+    // Đồng hồ nửa nước để riêng: giá trị đọc từ FEN hoặc setHalfmoveClock có thể lớn hơn số bit còn trống trong undoStates
+    private int[] undoHalfmoveClocks = new int[64];
+    private long[] undoHashes = new long[64];
+    private int ply = 0;
+    // Khóa các thế cờ của ván trước thế cờ gốc (cũ nhất trước), để isRepetition thấy cả lần lặp từ trước khi bắt đầu tìm
+    private long[] gameHistory = new long[0];
+    private int gameHistorySize = 0;
+
+    public BitboardPosition() {
+        Arrays.fill(mailbox, (byte) NO_PIECE);
+    }
+
+    public BitboardPosition(BitboardPosition other) {
+        System.arraycopy(other.pieceBoards, 0, pieceBoards, 0, pieceBoards.length);
+        System.arraycopy(other.colorBoards, 0, colorBoards, 0, colorBoards.length);
+        System.arraycopy(other.mailbox, 0, mailbox, 0, mailbox.length);
+        this.occupied = other.occupied;
+        this.sideToMove = other.sideToMove;
+        this.castlingRights = other.castlingRights;
+        this.enPassantSquare = other.enPassantSquare;
+        this.halfmoveClock = other.halfmoveClock;
+        this.fullmoveNumber = other.fullmoveNumber;
+        this.hash = other.hash;
+        this.enPassantKey = other.enPassantKey;
+        System.arraycopy(other.material, 0, material, 0, material.length);
+        System.arraycopy(other.psqScores, 0, psqScores, 0, psqScores.length);
+    }
+
+    public static int pieceCode(PieceType type, PieceColor color) {
+        return pieceCode(type.ordinal(), color.ordinal());
+    }
+
+    public static int pieceCode(int type, int color) {
+        return color * 6 + type;
+    }
+
+    public static int typeOf(int pieceCode) {
+        return pieceCode % 6;
+    }
+
+    public static int colorOf(int pieceCode) {
+        return pieceCode / 6;
+    }
+
+    // Đặt/bỏ quân khi dựng thế cờ; phần khóa en passant được tính lại vì nó phụ thuộc vào tốt đứng cạnh ô en passant
+    public void putPiece(int square, int pieceCode) {
+        addPiece(square, pieceCode);
+        updateEnPassantKey();
+    }
+
+    public int removePiece(int square) {
+        int pieceCode = deletePiece(square);
+        updateEnPassantKey();
+        return pieceCode;
+    }
+
+    // Bản không đụng tới khóa en passant, cho makeMove/unmakeMove tự cập nhật một lần
+    private void addPiece(int square, int pieceCode) {
+        if (mailbox[square] != NO_PIECE) {
+            deletePiece(square);
+        }
+        long bit = 1L << square;
+        int color = colorOf(pieceCode);
+        pieceBoards[pieceCode] |= bit;
+        colorBoards[color] |= bit;
+        occupied |= bit;
+        mailbox[square] = (byte) pieceCode;
+        hash ^= Zobrist.piece(pieceCode, square);
+        material[color] += PieceSquareTables.materialPoints(typeOf(pieceCode));
+        psqScores[color] += PieceSquareTables.score(pieceCode, square);
+    }
+
+    private int deletePiece(int square) {
+        int pieceCode = mailbox[square];
+        if (pieceCode == NO_PIECE) {
+            return NO_PIECE;
+        }
+        long bit = ~(1L << square);
+        int color = colorOf(pieceCode);
+        pieceBoards[pieceCode] &= bit;
+        colorBoards[color] &= bit;
+        occupied &= bit;
+        mailbox[square] = NO_PIECE;
+        hash ^= Zobrist.piece(pieceCode, square);
+        material[color] -= PieceSquareTables.materialPoints(typeOf(pieceCode));
+        psqScores[color] -= PieceSquareTables.score(pieceCode, square);
+        return pieceCode;
+    }
+
+    public int pieceAt(int square) {
+        return mailbox[square];
+    }
+
+    public boolean isEmpty(int square) {
+        return mailbox[square] == NO_PIECE;
+    }
+
+    public long pieces(int pieceCode) {
+        return pieceBoards[pieceCode];
+    }
+
+    public long pieces(int type, int color) {
+        return pieceBoards[pieceCode(type, color)];
+    }
+
+    public long pieces(PieceType type, PieceColor color) {
+        return pieceBoards[pieceCode(type, color)];
+    }
+
+    public long occupancy(int color) {
+        return colorBoards[color];
+    }
+
+    public long occupancy(PieceColor color) {
+        return colorBoards[color.ordinal()];
+    }
+
+    public long occupied() {
+        return occupied;
+    }
+
+    public int kingSquare(int color) {
+        long king = pieceBoards[pieceCode(PieceType.KING.ordinal(), color)];
+        return king == 0 ? -1 : Long.numberOfTrailingZeros(king);
+    }
+
+    // Tất cả quân màu byColor đang tấn công square, với trạng thái chiếm ô cho trước
+    public long attackersTo(int square, int byColor, long occupied) {
+        long queens = pieces(QUEEN, byColor);
+        return (Attacks.pawnAttacks(byColor ^ 1, square) & pieces(PAWN, byColor))
+                | (Attacks.knightAttacks(square) & pieces(KNIGHT, byColor))
+                | (Attacks.kingAttacks(square) & pieces(KING, byColor))
+                | (Attacks.bishopAttacks(square, occupied) & (pieces(BISHOP, byColor) | queens))
+                | (Attacks.rookAttacks(square, occupied) & (pieces(ROOK, byColor) | queens));
+    }
+
+    /**
+     * Kiểm tra ô square có bị bên byColor tấn công không, đi ngược từ ô đích ra ngoài:
+     * chỉ cần một quân khớp là dừng, không sinh nước đi của đối phương.
+     */
+    public boolean isSquareAttacked(int square, int byColor) {
+        return isSquareAttacked(square, byColor, occupied);
+    }
+
+    public boolean isSquareAttacked(int square, int byColor, long occupied) {
+        if ((Attacks.pawnAttacks(byColor ^ 1, square) & pieces(PAWN, byColor)) != 0
+                || (Attacks.knightAttacks(square) & pieces(KNIGHT, byColor)) != 0
+                || (Attacks.kingAttacks(square) & pieces(KING, byColor)) != 0) {
+            return true;
+        }
+        long queens = pieces(QUEEN, byColor);
+        long diagonal = pieces(BISHOP, byColor) | queens;
+        if (diagonal != 0 && (Attacks.bishopAttacks(square, occupied) & diagonal) != 0) {
+            return true;
+        }
+        long straight = pieces(ROOK, byColor) | queens;
+        return straight != 0 && (Attacks.rookAttacks(square, occupied) & straight) != 0;
+    }
+
+    public boolean isInCheck(int color) {
+        int king = kingSquare(color);
+        return king >= 0 && isSquareAttacked(king, color ^ 1);
+    }
+
+    // Không bên nào chiếu hết được dù đi thế nào (thiếu quân theo FIDE 5.2.2): ngoài vua chỉ còn
+    // đúng một mã, hoặc chỉ còn tượng (của cả hai bên, bao nhiêu cũng được) đứng trên cùng một màu ô
+    public boolean isInsufficientMaterial() {
+        long pawnsRooksQueens = pieces(PAWN, WHITE) | pieces(PAWN, BLACK) | pieces(ROOK, WHITE) | pieces(ROOK, BLACK)
+                | pieces(QUEEN, WHITE) | pieces(QUEEN, BLACK);
+        if (pawnsRooksQueens != 0) {
+            return false;
+        }
+        long knights = pieces(KNIGHT, WHITE) | pieces(KNIGHT, BLACK);
+        long bishops = pieces(BISHOP, WHITE) | pieces(BISHOP, BLACK);
+        if (knights != 0) {
+            return bishops == 0 && Bitboards.popCount(knights) == 1;
+        }
+        return (bishops & Bitboards.LIGHT_SQUARES) == 0 || (bishops & Bitboards.DARK_SQUARES) == 0;
+    }
+
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(int sideToMove) {
+        if (this.sideToMove != sideToMove) {
+            hash ^= Zobrist.side();
+        }
+        this.sideToMove = sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public void setCastlingRights(int castlingRights) {
+        hash ^= Zobrist.castling(this.castlingRights) ^ Zobrist.castling(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public void setEnPassantSquare(int enPassantSquare) {
+        this.enPassantSquare = enPassantSquare;
+        updateEnPassantKey();
+    }
+
+    // Ô en passant chỉ làm thế cờ khác đi khi thật sự có tốt đứng cạnh để bắt (theo luật lặp lại của FIDE)
+    public boolean isEnPassantCapturable() {
+        if (enPassantSquare == NO_SQUARE) {
+            return false;
+        }
+        int capturer = Bitboards.row(enPassantSquare) == 5 ? WHITE : BLACK;
+        return (Attacks.pawnAttacks(capturer ^ 1, enPassantSquare) & pieces(PAWN, capturer)) != 0;
+    }
+
+    public int getMaterial(int color) {
+        return material[color];
+    }
+
+    // Chênh lệch vật chất Trắng trừ Đen, O(1)
+    public int getMaterialAdvantage() {
+        return material[WHITE] - material[BLACK];
+    }
+
+    // Tổng giá trị quân và điểm ô (centipawn) của một bên, dùng cho hàm đánh giá
+    public int getPsqScore(int color) {
+        return psqScores[color];
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    public void setHalfmoveClock(int halfmoveClock) {
+        this.halfmoveClock = halfmoveClock;
+    }
+
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    public void setFullmoveNumber(int fullmoveNumber) {
+        this.fullmoveNumber = fullmoveNumber;
+    }
+
+    private void updateEnPassantKey() {
+        hash ^= enPassantKey;
+        enPassantKey = isEnPassantCapturable() ? Zobrist.enPassant(enPassantSquare) : 0L;
+        hash ^= enPassantKey;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    // Thế cờ hiện tại đã xuất hiện trong các nước đã đi trên đối tượng này hoặc trong lịch sử ván đã nạp
+    // (chỉ xét từ lần bắt quân/đi tốt gần nhất)
+    public boolean isRepetition() {
+        for (int distance = 4; distance <= halfmoveClock; distance += 2) {
+            int i = ply - distance;
+            if (i < -gameHistorySize) {
+                return false;
+            }
+            if ((i >= 0 ? undoHashes[i] : gameHistory[gameHistorySize + i]) == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // hashes[0..size) là khóa các thế cờ trước thế cờ hiện tại theo thứ tự ván đấu, không gồm chính nó; gọi sau khi dựng thế cờ
+    public void setGameHistory(long[] hashes, int size) {
+        if (gameHistory.length < size) {
+            gameHistory = new long[size];
+        }
+        System.arraycopy(hashes, 0, gameHistory, 0, size);
+        gameHistorySize = size;
+    }
+
+    public void clear() {
+        Arrays.fill(pieceBoards, 0L);
+        Arrays.fill(colorBoards, 0L);
+        Arrays.fill(mailbox, (byte) NO_PIECE);
+        occupied = 0L;
+        sideToMove = WHITE;
+        castlingRights = 0;
+        enPassantSquare = NO_SQUARE;
+        halfmoveClock = 0;
+        fullmoveNumber = 1;
+        hash = 0L;
+        enPassantKey = 0L;
+        Arrays.fill(material, 0);
+        Arrays.fill(psqScores, 0);
+        ply = 0;
+        gameHistorySize = 0;
+    }
+
+    // Đi một nước đã mã hóa bằng Move (thường lấy từ MoveGenerator)
+    public void makeMove(int move) {
+        makeMove(Move.from(move), Move.to(move), Move.isPromotion(move) ? Move.promotionType(move) : -1);
+    }
+
+    /**
+     * Đi một nước giả hợp lệ ngay trên bàn cờ, có thể hoàn tác bằng {@link #unmakeMove()}.
+     * Nhập thành, bắt tốt qua đường và phong cấp được nhận ra từ quân đi và ô đích;
+     * promotionType là chỉ số PieceType, giá trị âm nghĩa là phong Hậu.
+     */
+    public void makeMove(int from, int to, int promotionType) {
+        int piece = mailbox[from];
+        int type = typeOf(piece);
+        int color = colorOf(piece);
+        int captured = mailbox[to];
+        int kind = NORMAL_MOVE;
+
+        if (ply == undoMoves.length) {
+            undoMoves = Arrays.copyOf(undoMoves, ply * 2);
+            undoStates = Arrays.copyOf(undoStates, ply * 2);
+            undoHalfmoveClocks = Arrays.copyOf(undoHalfmoveClocks, ply * 2);
+            undoHashes = Arrays.copyOf(undoHashes, ply * 2);
+        }
+        undoHashes[ply] = hash;
+
+        if (type == PAWN && to == enPassantSquare) {
+            kind = EN_PASSANT_MOVE;
+            captured = deletePiece(color == WHITE ? to - 8 : to + 8);
+        } else if (type == KING && Math.abs(to - from) == 2) {
+            kind = CASTLING_MOVE;
+            movePiece(to > from ? from + 3 : from - 4, to > from ? from + 1 : from - 1);
+        } else if (type == PAWN && (to >= 56 || to < 8)) {
+            kind = PROMOTION_MOVE;
+        }
+
+        undoMoves[ply] = from | (to << 6) | (kind << 12) | ((captured + 1) << 16);
+        undoStates[ply] = castlingRights | ((enPassantSquare + 1) << 4) | (sideToMove << 11);
+        undoHalfmoveClocks[ply] = halfmoveClock;
+        ply++;
+
+        if (kind != EN_PASSANT_MOVE && captured != NO_PIECE) {
+            deletePiece(to);
+        }
+        movePiece(from, to);
+        if (kind == PROMOTION_MOVE) {
+            deletePiece(to);
+            addPiece(to, pieceCode(promotionType < 0 ? QUEEN : promotionType, color));
+        }
+
+        int rights = castlingRights & CASTLING_MASK[from] & CASTLING_MASK[to];
+        hash ^= Zobrist.castling(castlingRights) ^ Zobrist.castling(rights);
+        castlingRights = rights;
+        enPassantSquare = type == PAWN && Math.abs(to - from) == 16 ? (from + to) >>> 1 : NO_SQUARE;
+        updateEnPassantKey();
+        halfmoveClock = type == PAWN || captured != NO_PIECE ? 0 : halfmoveClock + 1;
+        if (color == BLACK) {
+            fullmoveNumber++;
+        }
+        if (sideToMove != (color ^ 1)) {
+            hash ^= Zobrist.side();
+        }
+        sideToMove = color ^ 1;
+    }
+
+    public void unmakeMove() {
+        ply--;
+        int undo = undoMoves[ply];
+        int state = undoStates[ply];
+        int from = undo & 0x3F;
+        int to = (undo >>> 6) & 0x3F;
+        int kind = (undo >>> 12) & 0xF;
+        int captured = (undo >>> 16) - 1;
+
+        int color = colorOf(mailbox[to]);
+        if (color == BLACK) {
+            fullmoveNumber--;
+        }
+        castlingRights = state & 0xF;
+        enPassantSquare = ((state >>> 4) & 0x7F) - 1;
+        sideToMove = (state >>> 11) & 1;
+        halfmoveClock = undoHalfmoveClocks[ply];
+
+        if (kind == PROMOTION_MOVE) {
+            deletePiece(to);
+            addPiece(to, pieceCode(PAWN, color));
+        }
+        movePiece(to, from);
+        if (kind == EN_PASSANT_MOVE) {
+            addPiece(color == WHITE ? to - 8 : to + 8, captured);
+        } else if (captured != NO_PIECE) {
+            addPiece(to, captured);
+        }
+        if (kind == CASTLING_MOVE) {
+            movePiece(to > from ? from + 1 : from - 1, to > from ? from + 3 : from - 4);
+        }
+        hash = undoHashes[ply];
+        enPassantKey = isEnPassantCapturable() ? Zobrist.enPassant(enPassantSquare) : 0L;
+    }
+
+    private void movePiece(int from, int to) {
+        int piece = mailbox[from];
+        long fromTo = (1L << from) | (1L << to);
+        pieceBoards[piece] ^= fromTo;
+        colorBoards[colorOf(piece)] ^= fromTo;
+        occupied ^= fromTo;
+        mailbox[to] = (byte) piece;
+        mailbox[from] = NO_PIECE;
+        hash ^= Zobrist.piece(piece, from) ^ Zobrist.piece(piece, to);
+        psqScores[colorOf(piece)] += PieceSquareTables.score(piece, to) - PieceSquareTables.score(piece, from);
+    }
+}
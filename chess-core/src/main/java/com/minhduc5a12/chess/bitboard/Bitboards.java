@@ -0,0 +1,55 @@
+package com.minhduc5a12.chess.bitboard;
+
+import com.minhduc5a12.chess.model.ChessPosition;
+
+// Ô được đánh số từ a1 = 0 đến h8 = 63 (square = row * 8 + col)
+public final class Bitboards {
+    public static final long EMPTY = 0L;
+    public static final long ALL = -1L;
+
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_B = FILE_A << 1;
+    public static final long FILE_G = FILE_A << 6;
+    public static final long FILE_H = FILE_A << 7;
+
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_2 = RANK_1 << 8;
+    public static final long RANK_7 = RANK_1 << 48;
+    public static final long RANK_8 = RANK_1 << 56;
+
+    // a1 là ô tối
+    public static final long DARK_SQUARES = 0xAA55AA55AA55AA55L;
+    public static final long LIGHT_SQUARES = ~DARK_SQUARES;
+
+    private Bitboards() {
+        throw new AssertionError("Cannot instantiate Bitboards class");
+    }
+
+    public static int square(int col, int row) {
+        return (row << 3) | col;
+    }
+
+    public static int col(int square) {
+        return square & 7;
+    }
+
+    public static int row(int square) {
+        return square >>> 3;
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public static int lsb(long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    public static int popCount(long bitboard) {
+        return Long.bitCount(bitboard);
+    }
+
+    public static ChessPosition toPosition(int square) {
+        return ChessPosition.of(square);
+    }
+}
@@ -0,0 +1,353 @@
+package com.minhduc5a12.chess.bitboard;
+
+import java.util.Arrays;
+
+/**
+ * Đọc/ghi FEN thẳng trên BitboardPosition (không qua ChessPiece), dùng cho perft, nhập dữ liệu hàng loạt và công cụ phân tích.
+ * Bộ đọc quét chuỗi một lượt, không split/regex và từ chối FEN sai luật; bộ ghi nối vào StringBuilder hoặc byte[] do bên gọi cấp.
+ */
+public final class Fen {
+    public static final String START_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    // Đủ cho mọi FEN hợp lệ: 71 ký tự bàn cờ, lượt, quyền nhập thành, en passant và hai số int
+    public static final int MAX_LENGTH = 128;
+
+    // Chữ cái theo mã quân (color * 6 + type)
+    private static final String PIECE_LETTERS = "PNBRQKpnbrqk";
+    private static final byte[] PIECE_CODES = new byte[128];
+    // Chữ cái theo bit quyền nhập thành WK, WQ, BK, BQ
+    private static final String CASTLING_LETTERS = "KQkq";
+
+    private static final int PAWN = 0;
+    private static final int ROOK = 3;
+    private static final int KING = 5;
+
+    static {
+        Arrays.fill(PIECE_CODES, (byte) BitboardPosition.NO_PIECE);
+        for (int code = 0; code < PIECE_LETTERS.length(); code++) {
+            PIECE_CODES[PIECE_LETTERS.charAt(code)] = (byte) code;
+        }
+    }
+
+    private Fen() {
+        throw new AssertionError("Cannot instantiate Fen class");
+    }
+
+    public static BitboardPosition parse(CharSequence fen) {
+        BitboardPosition position = new BitboardPosition();
+        parse(fen, position);
+        return position;
+    }
+
+    // Ghi đè position bằng thế cờ trong fen, dùng lại một đối tượng khi đọc hàng loạt
+    public static void parse(CharSequence fen, BitboardPosition position) {
+        position.clear();
+        int start = 0;
+        int end = fen.length();
+        while (start < end && fen.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && fen.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        // 1. Vị trí quân cờ, từ hàng 8 xuống hàng 1
+        int i = start;
+        int row = 7;
+        int col = 0;
+        boolean afterDigit = false;
+        for (; i < end; i++) {
+            char c = fen.charAt(i);
+            if (c == ' ') {
+                break;
+            }
+            if (c == '/') {
+                if (col != 8 || row == 0) {
+                    throw invalid(fen, "rank " + (row + 1) + " does not have 8 squares");
+                }
+                row--;
+                col = 0;
+                afterDigit = false;
+            } else if (c >= '1' && c <= '8') {
+                col += c - '0';
+                if (afterDigit || col > 8) {
+                    throw invalid(fen, "bad empty-square count on rank " + (row + 1));
+                }
+                afterDigit = true;
+            } else {
+                int code = c < PIECE_CODES.length ? PIECE_CODES[c] : BitboardPosition.NO_PIECE;
+                if (code == BitboardPosition.NO_PIECE) {
+                    throw invalid(fen, "unknown piece '" + c + "'");
+                }
+                if (col > 7) {
+                    throw invalid(fen, "rank " + (row + 1) + " has more than 8 squares");
+                }
+                if (BitboardPosition.typeOf(code) == PAWN && (row == 0 || row == 7)) {
+                    throw invalid(fen, "pawn on rank " + (row + 1));
+                }
+                position.putPiece(Bitboards.square(col, row), code);
+                col++;
+                afterDigit = false;
+            }
+        }
+        if (row != 0 || col != 8) {
+            throw invalid(fen, "board must have 8 ranks of 8 squares");
+        }
+        if (Long.bitCount(position.pieces(KING, BitboardPosition.WHITE)) != 1
+                || Long.bitCount(position.pieces(KING, BitboardPosition.BLACK)) != 1) {
+            throw invalid(fen, "each side must have exactly one king");
+        }
+
+        // 2. Lượt đi
+        i = skipSeparator(fen, i, end);
+        int side = i < end ? fen.charAt(i++) : 0;
+        if (side == 'w') {
+            position.setSideToMove(BitboardPosition.WHITE);
+        } else if (side == 'b') {
+            position.setSideToMove(BitboardPosition.BLACK);
+        } else {
+            throw invalid(fen, "side to move must be 'w' or 'b'");
+        }
+        int us = position.getSideToMove();
+        if (position.isInCheck(us ^ 1)) {
+            throw invalid(fen, "side not to move is in check");
+        }
+
+        // 3. Quyền nhập thành, theo thứ tự KQkq và chỉ khi vua/xe còn ở ô gốc
+        i = skipSeparator(fen, i, end);
+        int rights = 0;
+        if (i < end && fen.charAt(i) == '-') {
+            i++;
+        } else {
+            for (; i < end && fen.charAt(i) != ' '; i++) {
+                int right = castlingRight(fen.charAt(i));
+                if (right == 0 || rights >= right) {
+                    throw invalid(fen, "bad castling field");
+                }
+                if (!hasCastlingPieces(position, right)) {
+                    throw invalid(fen, "castling right '" + fen.charAt(i) + "' without king and rook on their squares");
+                }
+                rights |= right;
+            }
+            if (rights == 0) {
+                throw invalid(fen, "empty castling field");
+            }
+        }
+        position.setCastlingRights(rights);
+
+        // 4. Ô en passant: ngay sau nước đi hai ô của tốt đối phương
+        i = skipSeparator(fen, i, end);
+        if (i < end && fen.charAt(i) == '-') {
+            i++;
+        } else {
+            if (i + 1 >= end) {
+                throw invalid(fen, "bad en passant square");
+            }
+            int file = fen.charAt(i) - 'a';
+            int rank = fen.charAt(i + 1) - '1';
+            int expectedRank = us == BitboardPosition.WHITE ? 5 : 2;
+            if (file < 0 || file > 7 || rank != expectedRank) {
+                throw invalid(fen, "bad en passant square");
+            }
+            int square = Bitboards.square(file, rank);
+            int pawnSquare = us == BitboardPosition.WHITE ? square - 8 : square + 8;
+            if (!position.isEmpty(square) || position.pieceAt(pawnSquare) != BitboardPosition.pieceCode(PAWN, us ^ 1)) {
+                throw invalid(fen, "en passant square without a pawn that just moved");
+            }
+            position.setEnPassantSquare(square);
+            i += 2;
+        }
+
+        // 5, 6. Đồng hồ nửa nước và số nước (có thể vắng mặt như EPD)
+        if (i < end) {
+            i = skipSeparator(fen, i, end);
+            int fieldEnd = fieldEnd(fen, i, end);
+            position.setHalfmoveClock(parseCounter(fen, i, fieldEnd));
+            i = fieldEnd;
+        }
+        if (i < end) {
+            i = skipSeparator(fen, i, end);
+            int fieldEnd = fieldEnd(fen, i, end);
+            int fullmove = parseCounter(fen, i, fieldEnd);
+            if (fullmove < 1) {
+                throw invalid(fen, "fullmove number must be positive");
+            }
+            position.setFullmoveNumber(fullmove);
+            i = fieldEnd;
+        }
+        if (i != end) {
+            throw invalid(fen, "unexpected trailing text");
+        }
+    }
+
+    public static String toFen(BitboardPosition position) {
+        return write(position, new StringBuilder(MAX_LENGTH)).toString();
+    }
+
+    // Nối FEN vào out, không tạo đối tượng trung gian
+    public static StringBuilder write(BitboardPosition position, StringBuilder out) {
+        for (int row = 7; row >= 0; row--) {
+            int empty = 0;
+            for (int square = row * 8; square < row * 8 + 8; square++) {
+                int code = position.pieceAt(square);
+                if (code == BitboardPosition.NO_PIECE) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        out.append((char) ('0' + empty));
+                        empty = 0;
+                    }
+                    out.append(PIECE_LETTERS.charAt(code));
+                }
+            }
+            if (empty > 0) {
+                out.append((char) ('0' + empty));
+            }
+            if (row > 0) {
+                out.append('/');
+            }
+        }
+
+        out.append(position.getSideToMove() == BitboardPosition.WHITE ? " w " : " b ");
+
+        int rights = position.getCastlingRights();
+        if (rights == 0) {
+            out.append('-');
+        } else {
+            for (int right = 1, letter = 0; right <= BitboardPosition.BLACK_QUEENSIDE; right <<= 1, letter++) {
+                if ((rights & right) != 0) {
+                    out.append(CASTLING_LETTERS.charAt(letter));
+                }
+            }
+        }
+
+        out.append(' ');
+        int ep = position.getEnPassantSquare();
+        if (ep == BitboardPosition.NO_SQUARE) {
+            out.append('-');
+        } else {
+            out.append((char) ('a' + Bitboards.col(ep))).append((char) ('1' + Bitboards.row(ep)));
+        }
+
+        return out.append(' ').append(position.getHalfmoveClock()).append(' ').append(position.getFullmoveNumber());
+    }
+
+    // Ghi FEN dạng ASCII vào out từ offset, trả về vị trí ngay sau ký tự cuối; out cần còn ít nhất MAX_LENGTH byte
+    public static int write(BitboardPosition position, byte[] out, int offset) {
+        int i = offset;
+        for (int row = 7; row >= 0; row--) {
+            int empty = 0;
+            for (int square = row * 8; square < row * 8 + 8; square++) {
+                int code = position.pieceAt(square);
+                if (code == BitboardPosition.NO_PIECE) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        out[i++] = (byte) ('0' + empty);
+                        empty = 0;
+                    }
+                    out[i++] = (byte) PIECE_LETTERS.charAt(code);
+                }
+            }
+            if (empty > 0) {
+                out[i++] = (byte) ('0' + empty);
+            }
+            if (row > 0) {
+                out[i++] = '/';
+            }
+        }
+
+        out[i++] = ' ';
+        out[i++] = (byte) (position.getSideToMove() == BitboardPosition.WHITE ? 'w' : 'b');
+        out[i++] = ' ';
+
+        int rights = position.getCastlingRights();
+        if (rights == 0) {
+            out[i++] = '-';
+        } else {
+            for (int right = 1, letter = 0; right <= BitboardPosition.BLACK_QUEENSIDE; right <<= 1, letter++) {
+                if ((rights & right) != 0) {
+                    out[i++] = (byte) CASTLING_LETTERS.charAt(letter);
+                }
+            }
+        }
+
+        out[i++] = ' ';
+        int ep = position.getEnPassantSquare();
+        if (ep == BitboardPosition.NO_SQUARE) {
+            out[i++] = '-';
+        } else {
+            out[i++] = (byte) ('a' + Bitboards.col(ep));
+            out[i++] = (byte) ('1' + Bitboards.row(ep));
+        }
+
+        out[i++] = ' ';
+        i = writeInt(position.getHalfmoveClock(), out, i);
+        out[i++] = ' ';
+        return writeInt(position.getFullmoveNumber(), out, i);
+    }
+
+    private static int writeInt(int value, byte[] out, int offset) {
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    private static int castlingRight(char c) {
+        return switch (c) {
+            case 'K' -> BitboardPosition.WHITE_KINGSIDE;
+            case 'Q' -> BitboardPosition.WHITE_QUEENSIDE;
+            case 'k' -> BitboardPosition.BLACK_KINGSIDE;
+            case 'q' -> BitboardPosition.BLACK_QUEENSIDE;
+            default -> 0;
+        };
+    }
+
+    private static boolean hasCastlingPieces(BitboardPosition position, int right) {
+        int color = right <= BitboardPosition.WHITE_QUEENSIDE ? BitboardPosition.WHITE : BitboardPosition.BLACK;
+        int row = color == BitboardPosition.WHITE ? 0 : 7;
+        int rookCol = (right & (BitboardPosition.WHITE_KINGSIDE | BitboardPosition.BLACK_KINGSIDE)) != 0 ? 7 : 0;
+        return position.pieceAt(Bitboards.square(4, row)) == BitboardPosition.pieceCode(KING, color)
+                && position.pieceAt(Bitboards.square(rookCol, row)) == BitboardPosition.pieceCode(ROOK, color);
+    }
+
+    // Đúng một dấu cách giữa các trường
+    private static int skipSeparator(CharSequence fen, int i, int end) {
+        if (i >= end || fen.charAt(i) != ' ') {
+            throw invalid(fen, "missing field");
+        }
+        return i + 1;
+    }
+
+    private static int fieldEnd(CharSequence fen, int i, int end) {
+        while (i < end && fen.charAt(i) != ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int parseCounter(CharSequence fen, int start, int end) {
+        if (start == end || end - start > 9) {
+            throw invalid(fen, "bad move counter");
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = fen.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid(fen, "bad move counter");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(CharSequence fen, String reason) {
+        return new IllegalArgumentException("Invalid FEN (" + reason + "): " + fen);
+    }
+}
@@ -0,0 +1,78 @@
+package com.minhduc5a12.chess.bitboard;
+
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+
+/**
+ * Nước đi đóng gói trong một int: bit 0-5 ô đi, bit 6-11 ô đến, bit 12-15 cờ (loại nước).
+ * Bit 14 của cờ là bắt quân, bit 15 là phong cấp; hai bit thấp của cờ phong cấp là quân được phong.
+ */
+public final class Move {
+    public static final int NONE = 0;
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int KNIGHT_PROMOTION = 8;
+    public static final int BISHOP_PROMOTION = 9;
+    public static final int ROOK_PROMOTION = 10;
+    public static final int QUEEN_PROMOTION = 11;
+    public static final int KNIGHT_PROMOTION_CAPTURE = 12;
+    public static final int BISHOP_PROMOTION_CAPTURE = 13;
+    public static final int ROOK_PROMOTION_CAPTURE = 14;
+    public static final int QUEEN_PROMOTION_CAPTURE = 15;
+
+    private static final int CAPTURE_FLAG = 4;
+    private static final int PROMOTION_FLAG = 8;
+
+    private Move() {
+        throw new AssertionError("Cannot instantiate Move class");
+    }
+
+    public static int of(int from, int to, int flags) {
+        return from | (to << 6) | (flags << 12);
+    }
+
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int flags(int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    public static boolean isCapture(int move) {
+        return (flags(move) & CAPTURE_FLAG) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return (flags(move) & PROMOTION_FLAG) != 0;
+    }
+
+    public static boolean isCastling(int move) {
+        int flags = flags(move);
+        return flags == KING_CASTLE || flags == QUEEN_CASTLE;
+    }
+
+    // Chỉ số PieceType của quân được phong (KNIGHT..QUEEN), chỉ có nghĩa khi isPromotion
+    public static int promotionType(int move) {
+        return PieceType.KNIGHT.ordinal() + (flags(move) & 3);
+    }
+
+    public static ChessMove toChessMove(int move) {
+        return new ChessMove(Bitboards.toPosition(from(move)), Bitboards.toPosition(to(move)));
+    }
+
+    // Ký hiệu UCI, ví dụ e2e4 hoặc e7e8q
+    public static String toUci(int move) {
+        String uci = Bitboards.toPosition(from(move)).toChessNotation() + Bitboards.toPosition(to(move)).toChessNotation();
+        return isPromotion(move) ? uci + "nbrq".charAt(flags(move) & 3) : uci;
+    }
+}
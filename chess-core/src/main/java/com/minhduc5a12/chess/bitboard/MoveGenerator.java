@@ -0,0 +1,273 @@
+package com.minhduc5a12.chess.bitboard;
+
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+
+import java.util.List;
+
+/**
+ * Sinh nước đi hợp lệ hoàn toàn: quân chiếu, quân bị ghim và mặt nạ chặn chiếu được tính một lần
+ * cho mỗi thế cờ, nên không cần đi thử từng nước để kiểm tra vua.
+ */
+public final class MoveGenerator {
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KNIGHT = PieceType.KNIGHT.ordinal();
+    private static final int BISHOP = PieceType.BISHOP.ordinal();
+    private static final int ROOK = PieceType.ROOK.ordinal();
+    private static final int QUEEN = PieceType.QUEEN.ordinal();
+
+    // Loại nước cần sinh; NOISY gồm bắt quân, phong cấp và bắt tốt qua đường, QUIET là phần còn lại
+    private static final int ALL = 0;
+    private static final int NOISY = 1;
+    private static final int QUIET = 2;
+
+    private MoveGenerator() {
+        throw new AssertionError("Cannot instantiate MoveGenerator class");
+    }
+
+    public static void generateLegalMoves(BitboardPosition position, MoveList moves) {
+        moves.clear();
+        generate(position, position.getSideToMove(), Bitboards.ALL, ALL, moves);
+    }
+
+    // Sinh theo giai đoạn cho tìm kiếm: nước bắt quân/phong cấp trước, nước yên lặng chỉ khi cần;
+    // hợp của hai tập đúng bằng generateLegalMoves
+    public static void generateLegalCaptures(BitboardPosition position, MoveList moves) {
+        moves.clear();
+        generate(position, position.getSideToMove(), Bitboards.ALL, NOISY, moves);
+    }
+
+    public static void generateLegalQuiets(BitboardPosition position, MoveList moves) {
+        moves.clear();
+        generate(position, position.getSideToMove(), Bitboards.ALL, QUIET, moves);
+    }
+
+    // Chỉ sinh nước của quân đứng ở fromSquare (dùng khi người chơi chọn một ô)
+    public static void generateLegalMoves(BitboardPosition position, int fromSquare, MoveList moves) {
+        moves.clear();
+        int piece = position.pieceAt(fromSquare);
+        if (piece == BitboardPosition.NO_PIECE) {
+            return;
+        }
+        generate(position, BitboardPosition.colorOf(piece), Bitboards.bit(fromSquare), ALL, moves);
+    }
+
+    // Kiểm tra nước lấy từ nguồn khác (bảng chuyển vị, killer) trước khi đi; scratch dùng làm bộ đệm
+    public static boolean isLegal(BitboardPosition position, int move, MoveList scratch) {
+        if (move == Move.NONE) {
+            return false;
+        }
+        int piece = position.pieceAt(Move.from(move));
+        if (piece == BitboardPosition.NO_PIECE || BitboardPosition.colorOf(piece) != position.getSideToMove()) {
+            return false;
+        }
+        generateLegalMoves(position, Move.from(move), scratch);
+        return scratch.contains(move);
+    }
+
+    // Bản dành cho UI: đổi sang ChessMove, phong cấp chỉ giữ nước phong Hậu
+    public static void generateLegalMoves(BitboardPosition position, List<ChessMove> moves) {
+        MoveList list = new MoveList();
+        generateLegalMoves(position, list);
+        list.toChessMoves(moves);
+    }
+
+    public static void generateLegalMoves(BitboardPosition position, int fromSquare, List<ChessMove> moves) {
+        MoveList list = new MoveList();
+        generateLegalMoves(position, fromSquare, list);
+        list.toChessMoves(moves);
+    }
+
+    private static void generate(BitboardPosition position, int us, long fromMask, int kind, MoveList moves) {
+        int them = us ^ 1;
+        long ours = position.occupancy(us);
+        long enemies = position.occupancy(them);
+        long occupied = position.occupied();
+        int kingSquare = position.kingSquare(us);
+        long kindMask = kind == NOISY ? enemies : kind == QUIET ? ~enemies : Bitboards.ALL;
+
+        long checkers = 0L;
+        long pinned = 0L;
+        if (kingSquare >= 0) {
+            checkers = position.attackersTo(kingSquare, them, occupied);
+            pinned = pinnedPieces(position, us, kingSquare);
+
+            if ((fromMask & Bitboards.bit(kingSquare)) != 0) {
+                long danger = attackedSquares(position, them, occupied ^ Bitboards.bit(kingSquare));
+                addMoves(kingSquare, Attacks.kingAttacks(kingSquare) & ~ours & ~danger & kindMask, enemies, moves);
+                if (checkers == 0 && kind != NOISY) {
+                    addCastlingMoves(position, us, kingSquare, danger, moves);
+                }
+            }
+            // Bị chiếu đôi thì chỉ vua được đi
+            if (Long.bitCount(checkers) > 1) {
+                return;
+            }
+        }
+
+        long checkMask = checkers == 0 ? Bitboards.ALL : checkers | Attacks.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+        long targetMask = ~ours & checkMask & kindMask;
+
+        for (long knights = position.pieces(KNIGHT, us) & fromMask & ~pinned; knights != 0; knights &= knights - 1) {
+            int from = Long.numberOfTrailingZeros(knights);
+            addMoves(from, Attacks.knightAttacks(from) & targetMask, enemies, moves);
+        }
+
+        long queens = position.pieces(QUEEN, us);
+        for (long bishops = (position.pieces(BISHOP, us) | queens) & fromMask; bishops != 0; bishops &= bishops - 1) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            long targets = Attacks.bishopAttacks(from, occupied) & targetMask;
+            addMoves(from, restrictPinned(from, kingSquare, pinned, targets), enemies, moves);
+        }
+        for (long rooks = (position.pieces(ROOK, us) | queens) & fromMask; rooks != 0; rooks &= rooks - 1) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            long targets = Attacks.rookAttacks(from, occupied) & targetMask;
+            addMoves(from, restrictPinned(from, kingSquare, pinned, targets), enemies, moves);
+        }
+
+        addPawnMoves(position, us, kingSquare, fromMask, pinned, checkMask, kind, moves);
+    }
+
+    private static void addPawnMoves(BitboardPosition position, int us, int kingSquare, long fromMask, long pinned, long checkMask,
+                                     int kind, MoveList moves) {
+        int them = us ^ 1;
+        long occupied = position.occupied();
+        long enemies = position.occupancy(them);
+        int forward = us == BitboardPosition.WHITE ? 8 : -8;
+        long doublePushRank = us == BitboardPosition.WHITE ? Bitboards.RANK_2 : Bitboards.RANK_7;
+        int enPassantSquare = position.getEnPassantSquare();
+
+        for (long pawns = position.pieces(PAWN, us) & fromMask; pawns != 0; pawns &= pawns - 1) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            long targets = 0L;
+            int doublePush = -1;
+
+            int oneStep = from + forward;
+            if ((occupied & Bitboards.bit(oneStep)) == 0) {
+                targets |= Bitboards.bit(oneStep);
+                int twoSteps = oneStep + forward;
+                if ((doublePushRank & Bitboards.bit(from)) != 0 && (occupied & Bitboards.bit(twoSteps)) == 0) {
+                    targets |= Bitboards.bit(twoSteps);
+                    doublePush = twoSteps;
+                }
+            }
+            targets |= Attacks.pawnAttacks(us, from) & enemies;
+            targets = restrictPinned(from, kingSquare, pinned, targets & checkMask);
+
+            for (; targets != 0; targets &= targets - 1) {
+                int to = Long.numberOfTrailingZeros(targets);
+                int captureFlag = (enemies & Bitboards.bit(to)) != 0 ? Move.CAPTURE : Move.QUIET;
+                boolean promotes = ((Bitboards.RANK_1 | Bitboards.RANK_8) & Bitboards.bit(to)) != 0;
+                boolean noisy = promotes || captureFlag == Move.CAPTURE;
+                if ((kind == NOISY && !noisy) || (kind == QUIET && noisy)) {
+                    continue;
+                }
+                if (promotes) {
+                    for (int promotion = Move.KNIGHT_PROMOTION; promotion <= Move.QUEEN_PROMOTION; promotion++) {
+                        moves.add(Move.of(from, to, promotion | captureFlag));
+                    }
+                } else {
+                    moves.add(Move.of(from, to, to == doublePush ? Move.DOUBLE_PAWN_PUSH : captureFlag));
+                }
+            }
+
+            if (kind != QUIET && enPassantSquare != BitboardPosition.NO_SQUARE && (Attacks.pawnAttacks(us, from) & Bitboards.bit(enPassantSquare)) != 0
+                    && isLegalEnPassant(position, us, kingSquare, from, enPassantSquare)) {
+                moves.add(Move.of(from, enPassantSquare, Move.EN_PASSANT));
+            }
+        }
+    }
+
+    // Bắt tốt qua đường làm mất hai quân trên cùng một hàng nên kiểm tra trực tiếp bằng thế cờ sau khi bắt
+    private static boolean isLegalEnPassant(BitboardPosition position, int us, int kingSquare, int from, int to) {
+        if (kingSquare < 0) {
+            return true;
+        }
+        int capturedSquare = us == BitboardPosition.WHITE ? to - 8 : to + 8;
+        long occupied = (position.occupied() ^ Bitboards.bit(from) ^ Bitboards.bit(capturedSquare)) | Bitboards.bit(to);
+        long attackers = position.attackersTo(kingSquare, us ^ 1, occupied) & ~Bitboards.bit(capturedSquare);
+        return attackers == 0;
+    }
+
+    private static void addCastlingMoves(BitboardPosition position, int us, int kingSquare, long danger, MoveList moves) {
+        int rights = position.getCastlingRights();
+        int homeSquare = us == BitboardPosition.WHITE ? 4 : 60;
+        if (kingSquare != homeSquare) {
+            return;
+        }
+        int kingside = us == BitboardPosition.WHITE ? BitboardPosition.WHITE_KINGSIDE : BitboardPosition.BLACK_KINGSIDE;
+        int queenside = us == BitboardPosition.WHITE ? BitboardPosition.WHITE_QUEENSIDE : BitboardPosition.BLACK_QUEENSIDE;
+        long rooks = position.pieces(ROOK, us);
+        long occupied = position.occupied();
+
+        if ((rights & kingside) != 0 && (rooks & Bitboards.bit(kingSquare + 3)) != 0) {
+            long path = Bitboards.bit(kingSquare + 1) | Bitboards.bit(kingSquare + 2);
+            if ((occupied & path) == 0 && (danger & path) == 0) {
+                moves.add(Move.of(kingSquare, kingSquare + 2, Move.KING_CASTLE));
+            }
+        }
+        if ((rights & queenside) != 0 && (rooks & Bitboards.bit(kingSquare - 4)) != 0) {
+            long empty = Bitboards.bit(kingSquare - 1) | Bitboards.bit(kingSquare - 2) | Bitboards.bit(kingSquare - 3);
+            long path = Bitboards.bit(kingSquare - 1) | Bitboards.bit(kingSquare - 2);
+            if ((occupied & empty) == 0 && (danger & path) == 0) {
+                moves.add(Move.of(kingSquare, kingSquare - 2, Move.QUEEN_CASTLE));
+            }
+        }
+    }
+
+    // Quân bị ghim chỉ được đi dọc đường nối vua với quân ghim
+    private static long restrictPinned(int from, int kingSquare, long pinned, long targets) {
+        if ((pinned & Bitboards.bit(from)) == 0) {
+            return targets;
+        }
+        return targets & Attacks.line(kingSquare, from);
+    }
+
+    private static long pinnedPieces(BitboardPosition position, int us, int kingSquare) {
+        int them = us ^ 1;
+        long ours = position.occupancy(us);
+        long enemies = position.occupancy(them);
+        long queens = position.pieces(QUEEN, them);
+        long snipers = (Attacks.rookAttacks(kingSquare, enemies) & (position.pieces(ROOK, them) | queens))
+                | (Attacks.bishopAttacks(kingSquare, enemies) & (position.pieces(BISHOP, them) | queens));
+
+        long pinned = 0L;
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = Attacks.between(kingSquare, Long.numberOfTrailingZeros(snipers)) & position.occupied();
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & ours;
+            }
+        }
+        return pinned;
+    }
+
+    // Mọi ô bị bên color khống chế; occupied đã bỏ vua bên kia để vua không "núp" sau chính mình
+    private static long attackedSquares(BitboardPosition position, int color, long occupied) {
+        long attacked = 0L;
+        for (long pawns = position.pieces(PAWN, color); pawns != 0; pawns &= pawns - 1) {
+            attacked |= Attacks.pawnAttacks(color, Long.numberOfTrailingZeros(pawns));
+        }
+        for (long knights = position.pieces(KNIGHT, color); knights != 0; knights &= knights - 1) {
+            attacked |= Attacks.knightAttacks(Long.numberOfTrailingZeros(knights));
+        }
+        long queens = position.pieces(QUEEN, color);
+        for (long bishops = position.pieces(BISHOP, color) | queens; bishops != 0; bishops &= bishops - 1) {
+            attacked |= Attacks.bishopAttacks(Long.numberOfTrailingZeros(bishops), occupied);
+        }
+        for (long rooks = position.pieces(ROOK, color) | queens; rooks != 0; rooks &= rooks - 1) {
+            attacked |= Attacks.rookAttacks(Long.numberOfTrailingZeros(rooks), occupied);
+        }
+        int kingSquare = position.kingSquare(color);
+        if (kingSquare >= 0) {
+            attacked |= Attacks.kingAttacks(kingSquare);
+        }
+        return attacked;
+    }
+
+    private static void addMoves(int from, long targets, long enemies, MoveList moves) {
+        for (; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            moves.add(Move.of(from, to, (enemies & Bitboards.bit(to)) != 0 ? Move.CAPTURE : Move.QUIET));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.minhduc5a12.chess.bitboard;
+
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+
+import java.util.List;
+
+/**
+ * Bộ đệm nước đi dạng int[] cấp phát sẵn, dùng lại giữa các lần sinh nước để không tạo rác.
+ * 256 đủ cho mọi thế cờ hợp lệ (tối đa đã biết là 218 nước).
+ */
+public final class MoveList {
+    public static final int MAX_MOVES = 256;
+
+    private final int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(MAX_MOVES);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new int[capacity];
+    }
+
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tìm nước theo ô đi/ô đến; với phong cấp trả về nước phong Hậu vì UI không chọn quân phong
+    public int find(int from, int to) {
+        for (int i = 0; i < size; i++) {
+            int move = moves[i];
+            if (Move.from(move) == from && Move.to(move) == to && isQueenOrNotPromotion(move)) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+
+    public int find(ChessMove move) {
+        return find(move.start().index(), move.end().index());
+    }
+
+    // Chuyển sang ChessMove cho UI; mỗi cặp ô đi/ô đến chỉ xuất hiện một lần
+    public void toChessMoves(List<ChessMove> target) {
+        for (int i = 0; i < size; i++) {
+            int move = moves[i];
+            if (isQueenOrNotPromotion(move)) {
+                target.add(Move.toChessMove(move));
+            }
+        }
+    }
+
+    private static boolean isQueenOrNotPromotion(int move) {
+        return !Move.isPromotion(move) || Move.promotionType(move) == PieceType.QUEEN.ordinal();
+    }
+}
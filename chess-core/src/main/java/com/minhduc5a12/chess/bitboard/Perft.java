@@ -0,0 +1,91 @@
+package com.minhduc5a12.chess.bitboard;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Đếm số nút lá tới độ sâu cho trước (perft) để kiểm tra và đo tốc độ bộ sinh nước.
+ * Chạy từ dòng lệnh: {@code Perft <depth> [fen]}, in số nút của từng nước đầu (divide) và nodes/s.
+ */
+public final class Perft {
+    private Perft() {
+        throw new AssertionError("Cannot instantiate Perft class");
+    }
+
+    public static long perft(BitboardPosition position, int depth) {
+        if (depth <= 0) {
+            return 1;
+        }
+        return perft(position, depth, newMoveLists(depth));
+    }
+
+    // Số nút dưới từng nước đi đầu tiên, khóa là ký hiệu UCI
+    public static Map<String, Long> divide(BitboardPosition position, int depth) {
+        Map<String, Long> result = new TreeMap<>();
+        if (depth <= 0) {
+            return result;
+        }
+        MoveList[] lists = newMoveLists(depth);
+        MoveList moves = lists[depth];
+        MoveGenerator.generateLegalMoves(position, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            position.makeMove(move);
+            result.put(Move.toUci(move), depth == 1 ? 1L : perft(position, depth - 1, lists));
+            position.unmakeMove();
+        }
+        return result;
+    }
+
+    private static long perft(BitboardPosition position, int depth, MoveList[] lists) {
+        MoveList moves = lists[depth];
+        MoveGenerator.generateLegalMoves(position, moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            nodes += perft(position, depth - 1, lists);
+            position.unmakeMove();
+        }
+        return nodes;
+    }
+
+    // Mỗi độ sâu một MoveList riêng để không cấp phát trong lúc duyệt
+    private static MoveList[] newMoveLists(int depth) {
+        MoveList[] lists = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            lists[i] = new MoveList();
+        }
+        return lists;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: Perft <depth> [fen]");
+            System.exit(1);
+        }
+        int depth = Integer.parseInt(args[0]);
+        String fen = args.length > 1 ? String.join(" ", Arrays.copyOfRange(args, 1, args.length)) : Fen.START_POSITION;
+        BitboardPosition position = Fen.parse(fen);
+
+        long startTime = System.nanoTime();
+        Map<String, Long> divide = divide(position, depth);
+        long elapsed = System.nanoTime() - startTime;
+
+        long nodes = 0;
+        for (Map.Entry<String, Long> entry : divide.entrySet()) {
+            System.out.println(entry.getKey() + ": " + entry.getValue());
+            nodes += entry.getValue();
+        }
+        long millis = Math.max(1, elapsed / 1_000_000);
+        System.out.println();
+        System.out.println("FEN: " + fen);
+        System.out.println("Depth: " + depth);
+        System.out.println("Nodes: " + nodes);
+        System.out.println("Time: " + millis + " ms");
+        System.out.println("NPS: " + nodes * 1000 / millis);
+    }
+}
@@ -0,0 +1,103 @@
+package com.minhduc5a12.chess.bitboard;
+
+/**
+ * Giá trị quân và bảng điểm theo ô (Simplified Evaluation Function của Tomasz Michniewski), đơn vị centipawn.
+ * Bảng viết theo góc nhìn bên Trắng, hàng đầu là hàng 8; quân Đen dùng bảng lật dọc.
+ */
+public final class PieceSquareTables {
+    // Điểm vật chất hiển thị trên UI, theo thứ tự PieceType (Vua không tính); nguồn duy nhất, ChessPiece cũng đọc từ đây
+    private static final int[] MATERIAL_POINTS = {1, 3, 3, 5, 9, 0};
+    private static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    private static final int[][] TABLES = {
+            { // Tốt
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    50, 50, 50, 50, 50, 50, 50, 50,
+                    10, 10, 20, 30, 30, 20, 10, 10,
+                    5, 5, 10, 25, 25, 10, 5, 5,
+                    0, 0, 0, 20, 20, 0, 0, 0,
+                    5, -5, -10, 0, 0, -10, -5, 5,
+                    5, 10, 10, -20, -20, 10, 10, 5,
+                    0, 0, 0, 0, 0, 0, 0, 0
+            },
+            { // Mã
+                    -50, -40, -30, -30, -30, -30, -40, -50,
+                    -40, -20, 0, 0, 0, 0, -20, -40,
+                    -30, 0, 10, 15, 15, 10, 0, -30,
+                    -30, 5, 15, 20, 20, 15, 5, -30,
+                    -30, 0, 15, 20, 20, 15, 0, -30,
+                    -30, 5, 10, 15, 15, 10, 5, -30,
+                    -40, -20, 0, 5, 5, 0, -20, -40,
+                    -50, -40, -30, -30, -30, -30, -40, -50
+            },
+            { // Tượng
+                    -20, -10, -10, -10, -10, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 10, 10, 5, 0, -10,
+                    -10, 5, 5, 10, 10, 5, 5, -10,
+                    -10, 0, 10, 10, 10, 10, 0, -10,
+                    -10, 10, 10, 10, 10, 10, 10, -10,
+                    -10, 5, 0, 0, 0, 0, 5, -10,
+                    -20, -10, -10, -10, -10, -10, -10, -20
+            },
+            { // Xe
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    5, 10, 10, 10, 10, 10, 10, 5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    0, 0, 0, 5, 5, 0, 0, 0
+            },
+            { // Hậu
+                    -20, -10, -10, -5, -5, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 5, 5, 5, 0, -10,
+                    -5, 0, 5, 5, 5, 5, 0, -5,
+                    0, 0, 5, 5, 5, 5, 0, -5,
+                    -10, 5, 5, 5, 5, 5, 0, -10,
+                    -10, 0, 5, 0, 0, 0, 0, -10,
+                    -20, -10, -10, -5, -5, -10, -10, -20
+            },
+            { // Vua (trung cuộc)
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -20, -30, -30, -40, -40, -30, -30, -20,
+                    -10, -20, -20, -20, -20, -20, -20, -10,
+                    20, 20, 0, 0, 0, 0, 20, 20,
+                    20, 30, 10, 0, 0, 10, 30, 20
+            }
+    };
+
+    // Giá trị quân cộng điểm ô, theo mã quân của BitboardPosition và chỉ số ô (a1 = 0)
+    private static final int[][] SCORES = new int[12][64];
+
+    static {
+        for (int code = 0; code < 12; code++) {
+            int type = BitboardPosition.typeOf(code);
+            boolean white = BitboardPosition.colorOf(code) == BitboardPosition.WHITE;
+            for (int square = 0; square < 64; square++) {
+                SCORES[code][square] = PIECE_VALUES[type] + TABLES[type][white ? square ^ 56 : square];
+            }
+        }
+    }
+
+    private PieceSquareTables() {
+        throw new AssertionError("Cannot instantiate PieceSquareTables class");
+    }
+
+    public static int materialPoints(int type) {
+        return MATERIAL_POINTS[type];
+    }
+
+    public static int pieceValue(int type) {
+        return PIECE_VALUES[type];
+    }
+
+    public static int score(int pieceCode, int square) {
+        return SCORES[pieceCode][square];
+    }
+}
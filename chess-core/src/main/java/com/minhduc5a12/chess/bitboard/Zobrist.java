@@ -0,0 +1,74 @@
+package com.minhduc5a12.chess.bitboard;
+
+import java.util.SplittableRandom;
+
+// Khóa Zobrist 64 bit: XOR các số ngẫu nhiên của từng quân/ô, quyền nhập thành, cột en passant và lượt đi.
+// Dùng seed cố định để cùng một thế cờ luôn cho cùng một khóa giữa các lần chạy.
+public final class Zobrist {
+    private static final long[][] PIECE_SQUARE = new long[12][64];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT_FILE = new long[8];
+    private static final long SIDE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5A12C4E55L);
+        for (long[] keys : PIECE_SQUARE) {
+            for (int square = 0; square < 64; square++) {
+                keys[square] = random.nextLong();
+            }
+        }
+        // Mỗi quyền nhập thành một khóa, tổ hợp quyền là XOR các khóa thành phần (CASTLING[0] = 0)
+        long[] rights = new long[4];
+        for (int i = 0; i < rights.length; i++) {
+            rights[i] = random.nextLong();
+        }
+        for (int mask = 0; mask < CASTLING.length; mask++) {
+            for (int i = 0; i < rights.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    CASTLING[mask] ^= rights[i];
+                }
+            }
+        }
+        for (int file = 0; file < EN_PASSANT_FILE.length; file++) {
+            EN_PASSANT_FILE[file] = random.nextLong();
+        }
+        SIDE = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new AssertionError("Cannot instantiate Zobrist class");
+    }
+
+    public static long piece(int pieceCode, int square) {
+        return PIECE_SQUARE[pieceCode][square];
+    }
+
+    public static long castling(int castlingRights) {
+        return CASTLING[castlingRights];
+    }
+
+    public static long enPassant(int square) {
+        return EN_PASSANT_FILE[square & 7];
+    }
+
+    public static long side() {
+        return SIDE;
+    }
+
+    // Tính lại từ đầu, dùng để đối chiếu với khóa được cập nhật dần trong BitboardPosition
+    public static long compute(BitboardPosition position) {
+        long key = 0L;
+        for (long occupied = position.occupied(); occupied != 0; occupied &= occupied - 1) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            key ^= piece(position.pieceAt(square), square);
+        }
+        key ^= castling(position.getCastlingRights());
+        if (position.isEnPassantCapturable()) {
+            key ^= enPassant(position.getEnPassantSquare());
+        }
+        if (position.getSideToMove() == BitboardPosition.BLACK) {
+            key ^= SIDE;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,13 @@
+package com.minhduc5a12.chess.constants;
+
+public enum GameStatus {
+    ONGOING, CHECKMATE, STALEMATE, FIFTY_MOVE_RULE, INSUFFICIENT_MATERIAL, THREEFOLD_REPETITION;
+
+    public boolean isGameOver() {
+        return this != ONGOING;
+    }
+
+    public boolean isDraw() {
+        return this != ONGOING && this != CHECKMATE;
+    }
+}
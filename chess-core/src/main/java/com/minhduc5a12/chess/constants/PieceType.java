@@ -0,0 +1,11 @@
+package com.minhduc5a12.chess.constants;
+
+public enum PieceType {
+    PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING;
+
+    private static final PieceType[] VALUES = values();
+
+    public static PieceType of(int index) {
+        return VALUES[index];
+    }
+}
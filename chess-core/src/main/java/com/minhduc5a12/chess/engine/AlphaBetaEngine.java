@@ -0,0 +1,174 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.bitboard.Move;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Engine viết bằng Java chạy ngay trong tiến trình, không cần file thực thi bên ngoài.
+ * Với nhiều luồng dùng Lazy SMP: mọi luồng cùng tìm từ gốc trên bảng chuyển vị chung, luồng phụ so le độ sâu,
+ * luồng chính quyết định lúc dừng.
+ */
+public class AlphaBetaEngine implements ChessEngine {
+    private static final Logger logger = LoggerFactory.getLogger(AlphaBetaEngine.class);
+    public static final int DEFAULT_HASH_MB = 64;
+    public static final int DEFAULT_THREADS = 1;
+
+    private final int threads;
+    // Giữ giữa các nước để tận dụng kết quả của lượt trước
+    private final TranspositionTable table;
+    private final AtomicBoolean stopSignal = new AtomicBoolean();
+    // Số thứ tự lượt tìm: stop() dừng mọi lượt đã yêu cầu tới thời điểm gọi, kể cả lượt chưa bắt đầu
+    private final AtomicLong lastRequested = new AtomicLong();
+    private volatile long lastStopped;
+    private final AtomicLong nodeCounter = new AtomicLong();
+    // Mỗi luồng một thế cờ và một Search, dùng lại qua các nước
+    private final BitboardPosition[] positions;
+    private final Search[] searches;
+    private final List<Future<SearchResult>> helperResults = new ArrayList<>();
+    private final ExecutorService helpers;
+
+    public AlphaBetaEngine() {
+        this(DEFAULT_HASH_MB, DEFAULT_THREADS);
+    }
+
+    public AlphaBetaEngine(int hashSizeMb, int threads) {
+        this.threads = Math.max(1, threads);
+        this.table = new TranspositionTable(hashSizeMb);
+        this.positions = new BitboardPosition[this.threads];
+        this.searches = new Search[this.threads];
+        for (int i = 0; i < this.threads; i++) {
+            positions[i] = new BitboardPosition();
+            searches[i] = new Search(positions[i], table, stopSignal, nodeCounter, i);
+        }
+        this.helpers = this.threads > 1 ? Executors.newFixedThreadPool(this.threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @Override
+    public String getName() {
+        return "AlphaBeta";
+    }
+
+    @Override
+    public void start() {
+        logger.info("Built-in engine ready ({} threads, {} hash entries)", threads, table.capacity());
+    }
+
+    @Override
+    public String getBestMove(String fen, SearchLimits limits) {
+        return getBestMove(requestSearch(), fen, null, 0, limits);
+    }
+
+    @Override
+    public String getBestMove(long searchId, String fen, long[] history, int historySize, SearchLimits limits) {
+        SearchResult result = search(searchId, fen, history, historySize, limits);
+        return result.bestMove() == Move.NONE ? null : Move.toUci(result.bestMove());
+    }
+
+    @Override
+    public long requestSearch() {
+        return lastRequested.incrementAndGet();
+    }
+
+    public SearchResult search(String fen, SearchLimits limits) {
+        return search(requestSearch(), fen, null, 0, limits);
+    }
+
+    // Kết quả của luồng chính, trừ khi một luồng phụ đã hoàn tất độ sâu lớn hơn; nodes là tổng mọi luồng
+    public synchronized SearchResult search(long searchId, String fen, long[] history, int historySize, SearchLimits limits) {
+        long startTime = System.nanoTime();
+        table.newSearch();
+        // Xem lại lastStopped sau khi xóa cờ để không mất stop() chen vào giữa hai bước
+        stopSignal.set(false);
+        if (searchId <= lastStopped) {
+            stopSignal.set(true);
+        }
+        for (BitboardPosition position : positions) {
+            Fen.parse(fen, position);
+            if (history != null) {
+                position.setGameHistory(history, historySize);
+            }
+        }
+        nodeCounter.set(0);
+        helperResults.clear();
+        for (int i = 1; i < threads; i++) {
+            Search helper = searches[i];
+            helperResults.add(helpers.submit(() -> helper.run(limits)));
+        }
+
+        SearchResult best = searches[0].run(limits);
+        stopSignal.set(true);
+        long totalNodes = best.nodes();
+        for (int i = 1; i < threads; i++) {
+            SearchResult result = awaitHelper(helperResults.get(i - 1), i);
+            totalNodes += result.nodes();
+            if (result.depth() > best.depth() && result.bestMove() != Move.NONE) {
+                best = result;
+            }
+        }
+
+        long millis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        for (int i = 0; i < threads; i++) {
+            logger.info("Thread {}: nodes {} nps {}", i, getThreadNodes(i), getThreadNps(i));
+        }
+        logger.info("Search finished: depth {} score {} nodes {} nps {} threads {} hashfull {}", best.depth(), best.score(), totalNodes,
+                totalNodes * 1000 / millis, threads, table.hashfull());
+        return new SearchResult(best.bestMove(), best.score(), best.depth(), totalNodes);
+    }
+
+    private SearchResult awaitHelper(Future<SearchResult> future, int index) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search thread " + index, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search thread " + index + " failed", e.getCause());
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    // Số nút của từng luồng trong lần tìm gần nhất; tổng bằng nodes của kết quả search
+    public long getThreadNodes(int thread) {
+        return searches[thread].getNodes();
+    }
+
+    // nodes/s của từng luồng trong lần tìm gần nhất
+    public long getThreadNps(int thread) {
+        long nanos = Math.max(1, searches[thread].getElapsedNanos());
+        return searches[thread].getNodes() * 1_000_000_000L / nanos;
+    }
+
+    @Override
+    public void stop() {
+        lastStopped = lastRequested.get();
+        stopSignal.set(true);
+    }
+
+    @Override
+    public void stopEngine() {
+        stopSignal.set(true);
+        if (helpers != null) {
+            helpers.shutdownNow();
+        }
+        table.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package com.minhduc5a12.chess.engine;
+
+/**
+ * Engine cờ vua: nhận thế cờ dạng FEN, trả về nước đi tốt nhất theo ký hiệu UCI (ví dụ e2e4, e7e8q).
+ * Có hai bản: {@link AlphaBetaEngine} chạy trong tiến trình và Stockfish (tiến trình ngoài, ở chess-ui).
+ */
+public interface ChessEngine {
+    SearchLimits DEFAULT_LIMITS = SearchLimits.ofMoveTime(1000);
+
+    String getName();
+
+    void start();
+
+    // null nếu thế cờ không còn nước đi
+    String getBestMove(String fen, SearchLimits limits);
+
+    default String getBestMove(String fen) {
+        return getBestMove(fen, DEFAULT_LIMITS);
+    }
+
+    // Gọi lúc giao việc tìm cho luồng khác: stop() gọi sau đó vẫn dừng lượt này dù nó chưa kịp bắt đầu
+    default long requestSearch() {
+        return 0;
+    }
+
+    // searchId lấy từ requestSearch; history[0..historySize) là khóa Zobrist các thế cờ của ván trước fen, để tránh
+    // đi vào lặp ba lần. Engine không dùng được khóa (Stockfish) bỏ qua lịch sử.
+    default String getBestMove(long searchId, String fen, long[] history, int historySize, SearchLimits limits) {
+        return getBestMove(fen, limits);
+    }
+
+    // Dừng lượt tìm đang chạy hoặc đã yêu cầu (bắt buộc với SearchLimits.infinite), getBestMove trả về nước tốt nhất đã có
+    void stop();
+
+    void stopEngine();
+}
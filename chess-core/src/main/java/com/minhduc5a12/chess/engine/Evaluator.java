@@ -0,0 +1,15 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+
+// Đánh giá tĩnh theo bên đi: giá trị quân cộng điểm ô, cả hai đã được BitboardPosition cập nhật dần
+public final class Evaluator {
+    private Evaluator() {
+        throw new AssertionError("Cannot instantiate Evaluator class");
+    }
+
+    public static int evaluate(BitboardPosition position) {
+        int us = position.getSideToMove();
+        return position.getPsqScore(us) - position.getPsqScore(us ^ 1);
+    }
+}
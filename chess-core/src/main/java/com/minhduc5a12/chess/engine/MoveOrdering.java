@@ -0,0 +1,81 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Move;
+import com.minhduc5a12.chess.constants.PieceType;
+
+import java.util.Arrays;
+
+/**
+ * Dữ liệu sắp xếp nước đi của một luồng tìm kiếm: hai nước killer cho mỗi ply và bảng history theo (màu, ô đi, ô đến).
+ * Không đồng bộ hóa; với Lazy SMP mỗi Search giữ một MoveOrdering riêng.
+ */
+public final class MoveOrdering {
+    public static final int KILLERS_PER_PLY = 2;
+
+    // Giá trị history bị chặn trong [-MAX_HISTORY, MAX_HISTORY] nhờ công thức cập nhật bão hòa
+    static final int MAX_HISTORY = 1 << 14;
+
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+    private static final int PIECE_TYPES = PieceType.values().length;
+
+    private final int[] killers = new int[(Search.MAX_PLY + 1) * KILLERS_PER_PLY];
+    private final int[] history = new int[2 * 64 * 64];
+
+    // Đầu mỗi lượt: xóa killer, giảm một nửa history để thông tin cũ phai dần
+    public void newSearch() {
+        Arrays.fill(killers, Move.NONE);
+        for (int i = 0; i < history.length; i++) {
+            history[i] /= 2;
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(killers, Move.NONE);
+        Arrays.fill(history, 0);
+    }
+
+    public int killer(int ply, int slot) {
+        return killers[ply * KILLERS_PER_PLY + slot];
+    }
+
+    public int history(int color, int move) {
+        return history[historyIndex(color, move)];
+    }
+
+    // Nước yên lặng gây cắt beta: thành killer của ply, được cộng history; các nước yên lặng đã thử trước nó bị trừ
+    public void updateQuietCutoff(int color, int move, int ply, int depth, MovePicker picker) {
+        int index = ply * KILLERS_PER_PLY;
+        if (killers[index] != move) {
+            killers[index + 1] = killers[index];
+            killers[index] = move;
+        }
+        int bonus = Math.min(depth * depth, 400);
+        addHistory(color, move, bonus);
+        for (int i = 0; i < picker.triedQuietCount(); i++) {
+            int tried = picker.triedQuiet(i);
+            if (tried != move) {
+                addHistory(color, tried, -bonus);
+            }
+        }
+    }
+
+    private void addHistory(int color, int move, int bonus) {
+        int index = historyIndex(color, move);
+        history[index] += bonus - history[index] * Math.abs(bonus) / MAX_HISTORY;
+    }
+
+    private static int historyIndex(int color, int move) {
+        return color << 12 | Move.from(move) << 6 | Move.to(move);
+    }
+
+    // MVV-LVA: quân bị bắt đắt nhất trước, cùng nạn nhân thì quân bắt rẻ nhất trước; phong cấp cộng thêm quân mới
+    public static int mvvLva(BitboardPosition position, int move) {
+        int victim = position.pieceAt(Move.to(move));
+        int victimType = victim == BitboardPosition.NO_PIECE ? (Move.isCapture(move) ? PAWN : -1) : BitboardPosition.typeOf(victim);
+        int attackerType = BitboardPosition.typeOf(position.pieceAt(Move.from(move)));
+        int score = (victimType + 1) * PIECE_TYPES + (KING - attackerType);
+        return Move.isPromotion(move) ? score + (Move.promotionType(move) + 1) * PIECE_TYPES : score;
+    }
+}
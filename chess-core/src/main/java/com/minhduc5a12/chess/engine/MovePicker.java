@@ -0,0 +1,142 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Move;
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+import com.minhduc5a12.chess.bitboard.MoveList;
+
+/**
+ * Trả nước đi theo từng giai đoạn, chỉ sinh nước khi cần: nước trong bảng chuyển vị, nước bắt quân/phong cấp
+ * theo MVV-LVA, rồi nước yên lặng (killer trước, sau đó theo history). Nếu cắt beta sớm thì nước yên lặng
+ * không bao giờ được sinh. Mỗi ply một MovePicker, dùng lại nên không cấp phát trong lúc duyệt.
+ */
+public final class MovePicker {
+    private static final int HASH_MOVE = 0;
+    private static final int GENERATE_CAPTURES = 1;
+    private static final int CAPTURES = 2;
+    private static final int GENERATE_QUIETS = 3;
+    private static final int QUIETS = 4;
+    private static final int DONE = 5;
+
+    // Killer xếp trên mọi giá trị history
+    private static final int KILLER_SCORE = MoveOrdering.MAX_HISTORY + MoveOrdering.KILLERS_PER_PLY;
+
+    private final MoveOrdering ordering;
+    private final MoveList captures = new MoveList();
+    private final MoveList quiets = new MoveList();
+    private final int[] scores = new int[MoveList.MAX_MOVES];
+    private BitboardPosition position;
+    private int hashMove;
+    private int ply;
+    private int stage;
+    private int index;
+    private boolean capturesOnly;
+
+    public MovePicker(MoveOrdering ordering) {
+        this.ordering = ordering;
+    }
+
+    // Nước trong bảng có thể sai khi trùng khóa nên được kiểm tra hợp lệ trước khi trả về
+    public void init(BitboardPosition position, int hashMove, int ply) {
+        this.position = position;
+        this.hashMove = MoveGenerator.isLegal(position, hashMove, quiets) ? hashMove : Move.NONE;
+        this.ply = ply;
+        this.capturesOnly = false;
+        quiets.clear();
+        stage = this.hashMove != Move.NONE ? HASH_MOVE : GENERATE_CAPTURES;
+    }
+
+    // Tìm kiếm tĩnh: chỉ nước bắt quân và phong cấp
+    public void initQuiescence(BitboardPosition position) {
+        this.position = position;
+        this.hashMove = Move.NONE;
+        this.capturesOnly = true;
+        quiets.clear();
+        stage = GENERATE_CAPTURES;
+    }
+
+    // Move.NONE khi đã hết nước; mỗi vòng lặp xử lý một giai đoạn, giai đoạn hết nước thì chuyển sang giai đoạn sau
+    public int next() {
+        while (true) {
+            switch (stage) {
+                case HASH_MOVE -> {
+                    stage = GENERATE_CAPTURES;
+                    return hashMove;
+                }
+                case GENERATE_CAPTURES -> {
+                    MoveGenerator.generateLegalCaptures(position, captures);
+                    for (int i = 0; i < captures.size(); i++) {
+                        scores[i] = MoveOrdering.mvvLva(position, captures.get(i));
+                    }
+                    index = 0;
+                    stage = CAPTURES;
+                }
+                case CAPTURES -> {
+                    while (index < captures.size()) {
+                        int move = pickBest(captures, index++);
+                        if (move != hashMove) {
+                            return move;
+                        }
+                    }
+                    stage = capturesOnly ? DONE : GENERATE_QUIETS;
+                }
+                case GENERATE_QUIETS -> {
+                    MoveGenerator.generateLegalQuiets(position, quiets);
+                    scoreQuiets();
+                    index = 0;
+                    stage = QUIETS;
+                }
+                case QUIETS -> {
+                    while (index < quiets.size()) {
+                        int move = pickBest(quiets, index++);
+                        if (move != hashMove) {
+                            return move;
+                        }
+                    }
+                    stage = DONE;
+                }
+                default -> {
+                    return Move.NONE;
+                }
+            }
+        }
+    }
+
+    // Nước yên lặng đã lấy khỏi danh sách theo thứ tự thử, dùng để trừ history khi một nước sau đó cắt beta
+    public int triedQuietCount() {
+        return stage == QUIETS || stage == DONE ? index : 0;
+    }
+
+    public int triedQuiet(int i) {
+        return quiets.get(i);
+    }
+
+    private void scoreQuiets() {
+        int color = position.getSideToMove();
+        int killer0 = ordering.killer(ply, 0);
+        int killer1 = ordering.killer(ply, 1);
+        for (int i = 0; i < quiets.size(); i++) {
+            int move = quiets.get(i);
+            scores[i] = move == killer0 ? KILLER_SCORE
+                    : move == killer1 ? KILLER_SCORE - 1
+                    : ordering.history(color, move);
+        }
+    }
+
+    // Chọn dần (selection sort) nước điểm cao nhất trong [start, size) và đổi lên vị trí start
+    private int pickBest(MoveList moves, int start) {
+        int bestIndex = start;
+        for (int i = start + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        int best = moves.get(bestIndex);
+        int bestScore = scores[bestIndex];
+        moves.set(bestIndex, moves.get(start));
+        scores[bestIndex] = scores[start];
+        moves.set(start, best);
+        scores[start] = bestScore;
+        return best;
+    }
+}
@@ -0,0 +1,326 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Move;
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+import com.minhduc5a12.chess.bitboard.MoveList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tìm kiếm sâu dần với alpha-beta (negamax) và tìm kiếm tĩnh trên các nước bắt quân, đi thẳng trên BitboardPosition.
+ * Mỗi ply một MovePicker riêng nên không cấp phát trong lúc duyệt. Một đối tượng chỉ dùng cho một luồng;
+ * với Lazy SMP mỗi luồng có Search, BitboardPosition và bảng killer/history riêng, dùng chung bảng chuyển vị và cờ dừng.
+ */
+public final class Search {
+    private static final Logger logger = LoggerFactory.getLogger(Search.class);
+
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000;
+    public static final int MAX_PLY = 128;
+    private static final int DRAW = 0;
+
+    // Số nút giữa hai lần xem đồng hồ
+    private static final int TIME_CHECK_MASK = 2047;
+    // Số nút giữa hai lần cộng vào bộ đếm chung của các luồng
+    private static final int NODE_FLUSH_MASK = 255;
+
+    // Bảng riêng cho Search tạo không kèm bảng (kiểm thử, công cụ)
+    private static final int DEFAULT_TABLE_MB = 1;
+
+    // Luồng phụ bỏ qua một số độ sâu để các luồng không cùng duyệt một độ sâu (bảng của Stockfish)
+    private static final int[] SKIP_SIZE = {1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4};
+    private static final int[] SKIP_PHASE = {0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7};
+
+    private final BitboardPosition position;
+    private final TranspositionTable table;
+    private final AtomicBoolean stopSignal;
+    // 0 là luồng chính
+    private final int threadId;
+    private final MoveList rootMoves = new MoveList();
+    private final MoveList scratchMoves = new MoveList();
+    private final MoveOrdering ordering = new MoveOrdering();
+    private final MovePicker[] pickers = new MovePicker[MAX_PLY + 1];
+    private long nodes;
+    private long nodeLimit;
+    // Tổng nút của mọi luồng, để giới hạn nodes áp dụng cho cả lượt tìm chứ không cho từng luồng
+    private final AtomicLong nodeCounter;
+    private final boolean ownsNodeCounter;
+    private long flushedNodes;
+    private long sharedNodesSeen;
+    private final TimeManager timeManager = new TimeManager();
+    private boolean stopped;
+    private long elapsedNanos;
+
+    public Search(BitboardPosition position) {
+        this(position, new TranspositionTable(DEFAULT_TABLE_MB));
+    }
+
+    public Search(BitboardPosition position, TranspositionTable table) {
+        this(position, table, new AtomicBoolean(), new AtomicLong(), 0, true);
+    }
+
+    // nodeCounter dùng chung giữa các luồng, người gọi đặt về 0 trước mỗi lượt tìm
+    public Search(BitboardPosition position, TranspositionTable table, AtomicBoolean stopSignal, AtomicLong nodeCounter, int threadId) {
+        this(position, table, stopSignal, nodeCounter, threadId, false);
+    }
+
+    private Search(BitboardPosition position, TranspositionTable table, AtomicBoolean stopSignal, AtomicLong nodeCounter, int threadId,
+                   boolean ownsNodeCounter) {
+        this.position = position;
+        this.table = table;
+        this.stopSignal = stopSignal;
+        this.nodeCounter = nodeCounter;
+        this.ownsNodeCounter = ownsNodeCounter;
+        this.threadId = threadId;
+        for (int i = 0; i < pickers.length; i++) {
+            pickers[i] = new MovePicker(ordering);
+        }
+    }
+
+    // Sâu dần tới khi chạm một giới hạn trong limits hoặc có tín hiệu dừng; nước của độ sâu dở dang bị bỏ
+    public SearchResult run(SearchLimits limits) {
+        long startTime = System.nanoTime();
+        nodes = 0;
+        flushedNodes = 0;
+        sharedNodesSeen = 0;
+        if (ownsNodeCounter) {
+            nodeCounter.set(0);
+        }
+        stopped = false;
+        nodeLimit = limits.nodes() > 0 ? limits.nodes() : Long.MAX_VALUE;
+        timeManager.start(limits, position.getSideToMove(), startTime);
+        ordering.newSearch();
+        SearchResult result = iterativeDeepening(limits.depth() > 0 ? Math.min(limits.depth(), MAX_PLY) : MAX_PLY);
+        elapsedNanos = System.nanoTime() - startTime;
+        return result;
+    }
+
+    private SearchResult iterativeDeepening(int maxDepth) {
+        MoveGenerator.generateLegalMoves(position, rootMoves);
+        if (rootMoves.isEmpty()) {
+            int score = position.isInCheck(position.getSideToMove()) ? -MATE : DRAW;
+            return new SearchResult(Move.NONE, score, 0, 0);
+        }
+
+        SearchResult result = new SearchResult(rootMoves.get(0), DRAW, 0, 0);
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            if (skipsDepth(depth)) {
+                continue;
+            }
+            int score = searchRoot(rootMoves, depth);
+            if (stopped) {
+                break;
+            }
+            result = new SearchResult(rootMoves.get(0), score, depth, nodes);
+            logger.debug("thread {} depth {} score {} nodes {} pv {}", threadId, depth, score, nodes, Move.toUci(rootMoves.get(0)));
+            if (Math.abs(score) >= MATE - MAX_PLY || timeManager.softLimitReached(System.nanoTime())) {
+                break;
+            }
+        }
+        return new SearchResult(result.bestMove(), result.score(), result.depth(), nodes);
+    }
+
+    private boolean skipsDepth(int depth) {
+        if (threadId == 0) {
+            return false;
+        }
+        int i = (threadId - 1) % SKIP_SIZE.length;
+        return ((depth + SKIP_PHASE[i]) / SKIP_SIZE[i]) % 2 != 0;
+    }
+
+    // Nước tốt nhất được đưa lên đầu danh sách để lần lặp sau duyệt trước
+    private int searchRoot(MoveList moves, int depth) {
+        int alpha = -INFINITY;
+        int bestIndex = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            int score = -alphaBeta(depth - 1, 1, -INFINITY, -alpha);
+            position.unmakeMove();
+            if (stopped) {
+                return alpha;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestIndex = i;
+            }
+        }
+        int best = moves.get(bestIndex);
+        for (int i = bestIndex; i > 0; i--) {
+            moves.set(i, moves.get(i - 1));
+        }
+        moves.set(0, best);
+        table.store(position.getHash(), best, alpha, depth, TranspositionTable.EXACT);
+        return alpha;
+    }
+
+    private int alphaBeta(int depth, int ply, int alpha, int beta) {
+        if (countNode()) {
+            return DRAW;
+        }
+        if (position.isRepetition() || position.isInsufficientMaterial()) {
+            return DRAW;
+        }
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+        // Luật 50 nước chỉ hòa khi bên đi còn nước đi: chiếu hết ở nửa nước thứ 100 vẫn là chiếu hết
+        if (position.getHalfmoveClock() >= 100) {
+            if (inCheck) {
+                MoveGenerator.generateLegalMoves(position, scratchMoves);
+                if (scratchMoves.isEmpty()) {
+                    return -MATE + ply;
+                }
+            }
+            return DRAW;
+        }
+        if (inCheck) {
+            depth++; // Gia hạn khi bị chiếu
+        }
+        if (depth <= 0) {
+            return quiescence(ply, alpha, beta);
+        }
+        if (ply >= MAX_PLY) {
+            return Evaluator.evaluate(position);
+        }
+
+        long key = position.getHash();
+        long entry = table.probe(key);
+        int hashMove = Move.NONE;
+        if (entry != TranspositionTable.MISS) {
+            hashMove = TranspositionTable.move(entry);
+            if (TranspositionTable.depth(entry) >= depth) {
+                int score = scoreFromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && score >= beta)
+                        || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        MovePicker picker = pickers[ply];
+        picker.init(position, hashMove, ply);
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = Move.NONE;
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            position.makeMove(move);
+            int score = -alphaBeta(depth - 1, ply + 1, -beta, -alpha);
+            position.unmakeMove();
+            if (stopped) {
+                return DRAW;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (score >= beta) {
+                        if (!Move.isCapture(move) && !Move.isPromotion(move)) {
+                            ordering.updateQuietCutoff(position.getSideToMove(), move, ply, depth, picker);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        if (bestMove == Move.NONE) {
+            return inCheck ? -MATE + ply : DRAW;
+        }
+
+        int bound = bestScore >= beta ? TranspositionTable.LOWER
+                : bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(key, bound == TranspositionTable.UPPER ? Move.NONE : bestMove, scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    // Điểm chiếu hết lưu theo khoảng cách từ thế cờ đang xét, không theo gốc
+    private static int scoreToTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score + ply;
+        }
+        return score <= -MATE + MAX_PLY ? score - ply : score;
+    }
+
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score - ply;
+        }
+        return score <= -MATE + MAX_PLY ? score + ply : score;
+    }
+
+    // Chỉ xét nước bắt quân và phong cấp cho tới khi thế cờ yên tĩnh; khi bị chiếu thì xét mọi nước thoát chiếu
+    private int quiescence(int ply, int alpha, int beta) {
+        if (countNode()) {
+            return DRAW;
+        }
+        if (ply >= MAX_PLY) {
+            return Evaluator.evaluate(position);
+        }
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+        MovePicker picker = pickers[ply];
+        if (inCheck) {
+            // Không được đứng yên khi bị chiếu, nếu không chiếu hết bằng nước bắt quân sẽ bị đánh giá như thế cờ bình thường
+            picker.init(position, Move.NONE, ply);
+        } else {
+            int standPat = Evaluator.evaluate(position);
+            if (standPat >= beta) {
+                return standPat;
+            }
+            if (standPat > alpha) {
+                alpha = standPat;
+            }
+            picker.initQuiescence(position);
+        }
+
+        int legalMoves = 0;
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            legalMoves++;
+            position.makeMove(move);
+            int score = -quiescence(ply + 1, -beta, -alpha);
+            position.unmakeMove();
+            if (stopped) {
+                return DRAW;
+            }
+            if (score >= beta) {
+                return score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+        }
+        if (inCheck && legalMoves == 0) {
+            return -MATE + ply;
+        }
+        return alpha;
+    }
+
+    // Đếm nút, thỉnh thoảng xem đồng hồ và cờ dừng; true nếu phải dừng
+    private boolean countNode() {
+        nodes++;
+        if ((nodes & NODE_FLUSH_MASK) == 0) {
+            sharedNodesSeen = nodeCounter.addAndGet(nodes - flushedNodes);
+            flushedNodes = nodes;
+        }
+        // Tổng đã biết của mọi luồng cộng phần chưa cộng của luồng này; chính xác khi chỉ có một luồng
+        if (sharedNodesSeen + nodes - flushedNodes >= nodeLimit
+                || ((nodes & TIME_CHECK_MASK) == 0 && (stopSignal.get() || timeManager.hardLimitReached(System.nanoTime())))) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    // Thời gian của lần run gần nhất, dùng để tính nodes/s của từng luồng
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
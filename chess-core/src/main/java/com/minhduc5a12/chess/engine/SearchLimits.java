@@ -0,0 +1,74 @@
+package com.minhduc5a12.chess.engine;
+
+/**
+ * Giới hạn cho một lượt tìm kiếm, tương ứng các tham số của lệnh UCI "go"; giá trị 0 nghĩa là không giới hạn.
+ * Thời gian tính bằng mili giây. ofInfinite() tìm tới khi có lệnh dừng (ChessEngine.stop).
+ */
+public record SearchLimits(int depth, long nodes, long moveTimeMillis, long whiteTimeMillis, long blackTimeMillis,
+                           long whiteIncrementMillis, long blackIncrementMillis, int movesToGo, boolean infinite) {
+    public SearchLimits {
+        if (depth < 0 || nodes < 0 || moveTimeMillis < 0 || whiteTimeMillis < 0 || blackTimeMillis < 0
+                || whiteIncrementMillis < 0 || blackIncrementMillis < 0 || movesToGo < 0) {
+            throw new IllegalArgumentException("Search limits must not be negative");
+        }
+    }
+
+    public static SearchLimits ofDepth(int depth) {
+        return new SearchLimits(depth, 0, 0, 0, 0, 0, 0, 0, false);
+    }
+
+    public static SearchLimits ofNodes(long nodes) {
+        return new SearchLimits(0, nodes, 0, 0, 0, 0, 0, 0, false);
+    }
+
+    public static SearchLimits ofMoveTime(long moveTimeMillis) {
+        return new SearchLimits(0, 0, moveTimeMillis, 0, 0, 0, 0, 0, false);
+    }
+
+    public static SearchLimits ofClock(long whiteTimeMillis, long blackTimeMillis, long whiteIncrementMillis, long blackIncrementMillis) {
+        return new SearchLimits(0, 0, 0, whiteTimeMillis, blackTimeMillis, whiteIncrementMillis, blackIncrementMillis, 0, false);
+    }
+
+    public static SearchLimits ofInfinite() {
+        return new SearchLimits(0, 0, 0, 0, 0, 0, 0, 0, true);
+    }
+
+    public SearchLimits withDepth(int depth) {
+        return new SearchLimits(depth, nodes, moveTimeMillis, whiteTimeMillis, blackTimeMillis, whiteIncrementMillis, blackIncrementMillis, movesToGo, infinite);
+    }
+
+    public SearchLimits withNodes(long nodes) {
+        return new SearchLimits(depth, nodes, moveTimeMillis, whiteTimeMillis, blackTimeMillis, whiteIncrementMillis, blackIncrementMillis, movesToGo, infinite);
+    }
+
+    public SearchLimits withMovesToGo(int movesToGo) {
+        return new SearchLimits(depth, nodes, moveTimeMillis, whiteTimeMillis, blackTimeMillis, whiteIncrementMillis, blackIncrementMillis, movesToGo, infinite);
+    }
+
+    public boolean hasClock() {
+        return whiteTimeMillis > 0 || blackTimeMillis > 0;
+    }
+
+    // Lệnh "go" của UCI, ví dụ "go wtime 60000 btime 60000 winc 1000 binc 1000"
+    public String toUciGo() {
+        StringBuilder command = new StringBuilder("go");
+        if (infinite) {
+            command.append(" infinite");
+        }
+        appendIfSet(command, "depth", depth);
+        appendIfSet(command, "nodes", nodes);
+        appendIfSet(command, "movetime", moveTimeMillis);
+        appendIfSet(command, "wtime", whiteTimeMillis);
+        appendIfSet(command, "btime", blackTimeMillis);
+        appendIfSet(command, "winc", whiteIncrementMillis);
+        appendIfSet(command, "binc", blackIncrementMillis);
+        appendIfSet(command, "movestogo", movesToGo);
+        return command.toString();
+    }
+
+    private static void appendIfSet(StringBuilder command, String name, long value) {
+        if (value > 0) {
+            command.append(' ').append(name).append(' ').append(value);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.minhduc5a12.chess.engine;
+
+// Kết quả của lần lặp sâu dần cuối cùng đã hoàn tất; điểm tính theo bên đi, đơn vị centipawn
+public record SearchResult(int bestMove, int score, int depth, long nodes) {
+}
@@ -0,0 +1,61 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+
+/**
+ * Chia thời gian cho một nước. Hết mốc mềm thì không bắt đầu độ sâu mới; tới mốc cứng thì dừng ngay giữa chừng.
+ * movetime (trừ phần dự phòng) là mốc cứng, mốc mềm bằng một nửa vì độ sâu kế tiếp thường tốn gấp vài lần độ sâu trước.
+ * Với đồng hồ, mốc mềm là phần chia đều cho số nước còn lại cộng phần lớn thời gian cộng thêm, mốc cứng gấp ba
+ * mốc mềm nhưng không quá 80% thời gian còn lại.
+ */
+public final class TimeManager {
+    // Dự phòng cho độ trễ giữa engine và giao diện
+    public static final long MOVE_OVERHEAD_MS = 30;
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    private static final long NO_LIMIT = Long.MAX_VALUE;
+
+    private long softLimitMillis = NO_LIMIT;
+    private long hardLimitMillis = NO_LIMIT;
+    private long softDeadline = NO_LIMIT;
+    private long hardDeadline = NO_LIMIT;
+
+    public void start(SearchLimits limits, int sideToMove, long startNanos) {
+        long soft = NO_LIMIT;
+        long hard = NO_LIMIT;
+        if (!limits.infinite()) {
+            if (limits.moveTimeMillis() > 0) {
+                hard = Math.max(1, limits.moveTimeMillis() - MOVE_OVERHEAD_MS);
+                soft = Math.max(1, hard / 2);
+            } else if (limits.hasClock()) {
+                boolean white = sideToMove == BitboardPosition.WHITE;
+                long time = white ? limits.whiteTimeMillis() : limits.blackTimeMillis();
+                long increment = white ? limits.whiteIncrementMillis() : limits.blackIncrementMillis();
+                long available = Math.max(1, time - MOVE_OVERHEAD_MS);
+                int movesToGo = limits.movesToGo() > 0 ? limits.movesToGo() : DEFAULT_MOVES_TO_GO;
+                long base = available / movesToGo + increment * 3 / 4;
+                hard = Math.max(1, Math.min(base * 3, available * 8 / 10));
+                soft = Math.max(1, Math.min(base, hard));
+            }
+        }
+        softLimitMillis = soft;
+        hardLimitMillis = hard;
+        softDeadline = soft == NO_LIMIT ? NO_LIMIT : startNanos + soft * 1_000_000L;
+        hardDeadline = hard == NO_LIMIT ? NO_LIMIT : startNanos + hard * 1_000_000L;
+    }
+
+    public boolean softLimitReached(long nowNanos) {
+        return nowNanos >= softDeadline;
+    }
+
+    public boolean hardLimitReached(long nowNanos) {
+        return nowNanos >= hardDeadline;
+    }
+
+    public long getSoftLimitMillis() {
+        return softLimitMillis;
+    }
+
+    public long getHardLimitMillis() {
+        return hardLimitMillis;
+    }
+}
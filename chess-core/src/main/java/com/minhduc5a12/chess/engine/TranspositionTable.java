@@ -0,0 +1,122 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.Move;
+
+import java.util.Arrays;
+
+/**
+ * Bảng chuyển vị kích thước cố định, lưu trong một long[] (một đối tượng duy nhất, GC không phải duyệt nội dung).
+ * Mỗi ô gồm hai long: (khóa XOR dữ liệu, dữ liệu). Khi đọc, khóa được khôi phục bằng XOR và so với khóa cần tìm,
+ * nên một ô bị hai luồng ghi xen kẽ chỉ bị coi là trượt; nhiều luồng có thể đọc/ghi cùng lúc mà không cần khóa.
+ * Dữ liệu: bit 0-15 nước đi, 16-31 điểm, 32-39 độ sâu, 40-41 loại cận, 42-47 tuổi (lượt tìm kiếm).
+ */
+public final class TranspositionTable {
+    public static final int UPPER = 1;
+    public static final int LOWER = 2;
+    public static final int EXACT = 3;
+
+    // Trả về khi không tìm thấy; dữ liệu hợp lệ luôn khác 0 vì loại cận >= 1
+    public static final long MISS = 0L;
+
+    private static final int ENTRY_LONGS = 2;
+    // Giới hạn để entries * ENTRY_LONGS vẫn là độ dài hợp lệ của một long[]
+    static final long MAX_ENTRIES = 1L << 29;
+    public static final int MAX_SIZE_MB = (int) (MAX_ENTRIES * ENTRY_LONGS * Long.BYTES / (1024 * 1024));
+    private static final int AGE_MASK = 0x3F;
+
+    private final long[] table;
+    private final int mask;
+    private int age;
+
+    public TranspositionTable(int sizeMb) {
+        int entries = entriesFor(sizeMb);
+        this.table = new long[entries * ENTRY_LONGS];
+        this.mask = entries - 1;
+    }
+
+    // Số ô (lũy thừa của 2) vừa với sizeMb
+    static int entriesFor(int sizeMb) {
+        if (sizeMb > MAX_SIZE_MB) {
+            throw new IllegalArgumentException("Hash size " + sizeMb + " MB exceeds maximum of " + MAX_SIZE_MB + " MB");
+        }
+        long bytes = Math.max(1, sizeMb) * 1024L * 1024L;
+        return (int) Long.highestOneBit(bytes / (ENTRY_LONGS * Long.BYTES));
+    }
+
+    // Gọi đầu mỗi lượt tìm kiếm để ô của lượt cũ được ưu tiên thay thế
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+        age = 0;
+    }
+
+    public long probe(long key) {
+        int index = index(key);
+        long data = table[index + 1];
+        return (table[index] ^ data) == key ? data : MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int index = index(key);
+        long oldData = table[index + 1];
+        boolean sameKey = (table[index] ^ oldData) == key;
+        // Giữ ô sâu hơn của lượt hiện tại, trừ khi là cùng thế cờ hoặc kết quả chính xác
+        if (!sameKey && oldData != MISS && age(oldData) == age && depth(oldData) > depth && bound != EXACT) {
+            return;
+        }
+        if (move == Move.NONE && sameKey) {
+            move = move(oldData);
+        }
+        long data = (move & 0xFFFFL)
+                | ((score & 0xFFFFL) << 16)
+                | ((long) Math.min(depth, 0xFF) << 32)
+                | ((long) bound << 40)
+                | ((long) age << 42);
+        table[index] = key ^ data;
+        table[index + 1] = data;
+    }
+
+    // Phần nghìn số ô đã dùng trong lượt hiện tại, lấy mẫu 1000 ô đầu (như hashfull của UCI)
+    public int hashfull() {
+        int sample = Math.min(1000, mask + 1);
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            long data = table[i * ENTRY_LONGS + 1];
+            if (data != MISS && age(data) == age) {
+                used++;
+            }
+        }
+        return used * 1000 / sample;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public static int move(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int score(long data) {
+        return (short) (data >>> 16);
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> 32) & 0xFF);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> 40) & 3);
+    }
+
+    private static int age(long data) {
+        return (int) ((data >>> 42) & AGE_MASK);
+    }
+
+    private int index(long key) {
+        return ((int) key & mask) * ENTRY_LONGS;
+    }
+}
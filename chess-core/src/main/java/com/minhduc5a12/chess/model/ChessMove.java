@@ -8,6 +8,6 @@ public record ChessMove(ChessPosition start, ChessPosition end) {
     }
 
     public ChessMove(int startX, int startY, int endX, int endY) {
-        this(new ChessPosition(startX, startY), new ChessPosition(endX, endY));
+        this(ChessPosition.of(startX, startY), ChessPosition.of(endX, endY));
     }
 }
@@ -0,0 +1,52 @@
+package com.minhduc5a12.chess.model;
+
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+import com.minhduc5a12.chess.bitboard.PieceSquareTables;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class ChessPiece implements Comparable<ChessPiece> {
+    private final PieceColor color;
+    private final PieceType pieceType;
+    // Điểm vật chất (Tốt 1 ... Hậu 9), cũng là khóa sắp xếp quân bị bắt; lấy từ cùng bảng với BitboardPosition
+    private final int pieceValue;
+
+    // Quân cờ không giữ hình ảnh; UI tra hình theo loại quân và màu qua PieceSprites
+    public ChessPiece(PieceColor color, PieceType pieceType) {
+        this.color = color;
+        this.pieceType = pieceType;
+        this.pieceValue = PieceSquareTables.materialPoints(pieceType.ordinal());
+    }
+
+    public PieceColor getColor() {
+        return color;
+    }
+
+    public int getPieceValue() {
+        return pieceValue;
+    }
+
+    public boolean isValidMove(ChessMove move, ChessPieceMap pieceMap) {
+        final List<ChessMove> moves = new ArrayList<>();
+        MoveGenerator.generateLegalMoves(pieceMap.getPosition(), move.start().index(), moves);
+        return moves.contains(move);
+    }
+
+    public abstract List<ChessMove> generateValidMoves(ChessPosition start, ChessPieceMap pieceMap);
+
+    // Trường final thay cho phương thức ảo để PieceMoves switch trên loại quân mà không cần gọi ảo
+    public final PieceType getPieceType() {
+        return pieceType;
+    }
+
+    public abstract String getPieceNotation();
+
+    @Override
+    public int compareTo(ChessPiece other) {
+        return Integer.compare(this.pieceValue, other.pieceValue);
+    }
+}
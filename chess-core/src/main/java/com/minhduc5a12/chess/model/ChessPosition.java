@@ -0,0 +1,68 @@
+package com.minhduc5a12.chess.model;
+
+import com.minhduc5a12.chess.constants.GameConstants;
+
+public record ChessPosition(int col, int row) {
+    // 64 ô dùng chung, chỉ số là index() (a1 = 0); ký hiệu ô cũng tính sẵn
+    private static final ChessPosition[] POSITIONS = new ChessPosition[64];
+    private static final String[] NOTATIONS = new String[64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            POSITIONS[square] = new ChessPosition(square % GameConstants.Board.BOARD_SIZE, square / GameConstants.Board.BOARD_SIZE);
+            NOTATIONS[square] = "" + (char) ('a' + square % GameConstants.Board.BOARD_SIZE) + (square / GameConstants.Board.BOARD_SIZE + 1);
+        }
+    }
+
+    public ChessPosition {
+        if (col < 0 || col > (GameConstants.Board.BOARD_SIZE - 1) || row < 0 || row > (GameConstants.Board.BOARD_SIZE - 1)) {
+            throw new IllegalArgumentException("Invalid position: (" + col + ", " + row + ")");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ChessPosition{" + col + ", " + row + "}";
+    }
+
+    // Ô dùng chung theo chỉ số, không cấp phát và không qua kiểm tra của constructor
+    public static ChessPosition of(int index) {
+        return POSITIONS[index];
+    }
+
+    public static ChessPosition of(int col, int row) {
+        if ((col | row) >>> 3 != 0) {
+            throw new IllegalArgumentException("Invalid position: (" + col + ", " + row + ")");
+        }
+        return POSITIONS[row * GameConstants.Board.BOARD_SIZE + col];
+    }
+
+    public String toChessNotation() {
+        return NOTATIONS[index()];
+    }
+
+    public static ChessPosition toChessPosition(String chessNotation) {
+        if (chessNotation == null || chessNotation.length() != 2) {
+            throw new IllegalArgumentException("Invalid chess notation: " + chessNotation);
+        }
+        char file = chessNotation.charAt(0);
+        int rank = Character.getNumericValue(chessNotation.charAt(1));
+        return of(file - 'a', rank - 1);
+    }
+
+    public int[] toMatrixCoords() {
+        return new int[]{GameConstants.Board.BOARD_SIZE - row - 1, col};
+    }
+
+    public int matrixCol() {
+        return col;
+    }
+
+    public int matrixRow() {
+        return GameConstants.Board.BOARD_SIZE - row - 1;
+    }
+
+    public int index() {
+        return row * GameConstants.Board.BOARD_SIZE + col;
+    }
+}
@@ -0,0 +1,10 @@
+package com.minhduc5a12.chess.model;
+
+import com.minhduc5a12.chess.constants.GameStatus;
+
+// Kết quả đánh giá thế cờ cho bên đang đi: trạng thái ván, có bị chiếu không và các nước hợp lệ
+public record GameEvaluation(GameStatus status, boolean inCheck, LegalMoves legalMoves) {
+    public boolean isGameOver() {
+        return status.isGameOver();
+    }
+}
@@ -0,0 +1,66 @@
+package com.minhduc5a12.chess.model;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Các nước hợp lệ của bên đang đi trong một thế cờ, kèm bitboard ô đích theo từng ô xuất phát để tra O(1)
+public final class LegalMoves {
+    private final List<ChessMove> moves;
+    private final long[] targets = new long[64];
+
+    public LegalMoves(List<ChessMove> moves) {
+        this.moves = Collections.unmodifiableList(moves);
+        for (ChessMove move : moves) {
+            targets[move.start().index()] |= 1L << move.end().index();
+        }
+    }
+
+    public static LegalMoves of(BitboardPosition position) {
+        List<ChessMove> moves = new ArrayList<>();
+        MoveGenerator.generateLegalMoves(position, moves);
+        return new LegalMoves(moves);
+    }
+
+    public List<ChessMove> all() {
+        return moves;
+    }
+
+    public boolean isEmpty() {
+        return moves.isEmpty();
+    }
+
+    public int size() {
+        return moves.size();
+    }
+
+    public boolean contains(ChessMove move) {
+        return contains(move.start().index(), move.end().index());
+    }
+
+    public boolean contains(int fromSquare, int toSquare) {
+        return (targets[fromSquare] & (1L << toSquare)) != 0;
+    }
+
+    public boolean hasMovesFrom(ChessPosition start) {
+        return targets[start.index()] != 0;
+    }
+
+    // Bitboard các ô quân ở square đi tới được
+    public long targets(int square) {
+        return targets[square];
+    }
+
+    public List<ChessMove> from(ChessPosition start) {
+        List<ChessMove> result = new ArrayList<>(Long.bitCount(targets[start.index()]));
+        for (ChessMove move : moves) {
+            if (move.start().equals(start)) {
+                result.add(move);
+            }
+        }
+        return result;
+    }
+}
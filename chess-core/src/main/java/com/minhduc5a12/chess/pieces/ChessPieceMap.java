@@ -0,0 +1,200 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Bitboards;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+
+import java.util.Arrays;
+
+// Adapter giữ đối tượng ChessPiece cho UI, còn trạng thái bàn cờ nằm trong BitboardPosition
+public class ChessPieceMap {
+    private final ChessPiece[] board;
+    private final BitboardPosition position;
+
+    // Đối tượng quân bị bắt và quân đã đi, dùng khi hoàn tác makeMove
+    private ChessPiece[] undoCaptured = new ChessPiece[16];
+    private ChessPiece[] undoMoved = new ChessPiece[16];
+    private int[] undoSquares = new int[16];
+    private int undoCount = 0;
+
+    public ChessPieceMap() {
+        this.board = new ChessPiece[64];
+        this.position = new BitboardPosition();
+    }
+
+    public ChessPieceMap(ChessPieceMap other) {
+        this.board = other.board.clone();
+        this.position = new BitboardPosition(other.position);
+    }
+
+    // Dựng bàn cờ kèm đối tượng quân từ một thế cờ (ví dụ đọc bằng Fen.parse)
+    public static ChessPieceMap fromPosition(BitboardPosition source) {
+        ChessPieceMap map = new ChessPieceMap();
+        for (long occupied = source.occupied(); occupied != 0; occupied &= occupied - 1) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            map.setPiece(Bitboards.toPosition(square), Pieces.get(source.pieceAt(square)));
+        }
+        map.position.setSideToMove(source.getSideToMove());
+        map.position.setCastlingRights(source.getCastlingRights());
+        map.position.setEnPassantSquare(source.getEnPassantSquare());
+        map.position.setHalfmoveClock(source.getHalfmoveClock());
+        map.position.setFullmoveNumber(source.getFullmoveNumber());
+        return map;
+    }
+
+    public ChessPiece getPiece(ChessPosition position) {
+        return board[position.index()];
+    }
+
+    public ChessPiece getPiece(int square) {
+        return board[square];
+    }
+
+    public ChessPiece getPiece(String chessNotation) {
+        return getPiece(ChessPosition.toChessPosition(chessNotation));
+    }
+
+    public void setPiece(ChessPosition position, ChessPiece piece) {
+        setPiece(position.index(), piece);
+    }
+
+    public void setPiece(int square, ChessPiece piece) {
+        if (piece == null) {
+            removePiece(square);
+            return;
+        }
+        board[square] = piece;
+        this.position.putPiece(square, BitboardPosition.pieceCode(piece.getPieceType(), piece.getColor()));
+    }
+
+    public void removePiece(ChessPosition position) {
+        removePiece(position.index());
+    }
+
+    public void removePiece(int square) {
+        board[square] = null;
+        this.position.removePiece(square);
+    }
+
+    public boolean hasPiece(ChessPosition position) {
+        return board[position.index()] != null;
+    }
+
+    public boolean hasPiece(int square) {
+        return board[square] != null;
+    }
+
+    /**
+     * Đi thử một nước trên chính bàn cờ này (không sao chép). Phải gọi {@link #unmakeMove()} để khôi phục.
+     */
+    public void makeMove(ChessMove move) {
+        int from = move.start().index();
+        int to = move.end().index();
+        ChessPiece piece = board[from];
+        int capturedSquare = to;
+
+        if (undoCount == undoSquares.length) {
+            undoCaptured = Arrays.copyOf(undoCaptured, undoCount * 2);
+            undoMoved = Arrays.copyOf(undoMoved, undoCount * 2);
+            undoSquares = Arrays.copyOf(undoSquares, undoCount * 2);
+        }
+
+        if (piece instanceof Pawn && to == position.getEnPassantSquare()) {
+            capturedSquare = piece.getColor().isWhite() ? to - 8 : to + 8;
+        } else if (piece instanceof King && Math.abs(to - from) == 2) {
+            moveCastlingRook(from, to);
+        }
+
+        undoCaptured[undoCount] = board[capturedSquare];
+        undoMoved[undoCount] = piece;
+        undoSquares[undoCount] = from | (to << 6) | (capturedSquare << 12);
+        undoCount++;
+
+        board[capturedSquare] = null;
+        board[from] = null;
+        board[to] = piece instanceof Pawn && (to >= 56 || to < 8) ? Pieces.get(PieceType.QUEEN, piece.getColor()) : piece;
+        position.makeMove(from, to, PieceType.QUEEN.ordinal());
+    }
+
+    public void unmakeMove() {
+        undoCount--;
+        int squares = undoSquares[undoCount];
+        int from = squares & 0x3F;
+        int to = (squares >>> 6) & 0x3F;
+        int capturedSquare = squares >>> 12;
+        ChessPiece piece = undoMoved[undoCount];
+
+        board[to] = null;
+        board[from] = piece;
+        board[capturedSquare] = undoCaptured[undoCount];
+        if (piece instanceof King && Math.abs(to - from) == 2) {
+            int rookFrom = to > from ? from + 3 : from - 4;
+            int rookTo = to > from ? from + 1 : from - 1;
+            board[rookFrom] = board[rookTo];
+            board[rookTo] = null;
+        }
+        undoCaptured[undoCount] = null;
+        undoMoved[undoCount] = null;
+        position.unmakeMove();
+    }
+
+    /**
+     * Đi hẳn một nước hợp lệ trên bàn cờ (không hoàn tác được bằng {@link #unmakeMove()}).
+     * Quyền nhập thành, ô en passant và đồng hồ nửa nước do {@link BitboardPosition#makeMove(int, int, int)} cập nhật.
+     * promotion là quân thay cho tốt khi phong cấp, null nghĩa là phong Hậu. Trả về quân bị bắt hoặc null.
+     */
+    public ChessPiece applyMove(ChessMove move, ChessPiece promotion) {
+        int from = move.start().index();
+        int to = move.end().index();
+        ChessPiece piece = board[from];
+        int capturedSquare = to;
+
+        if (piece instanceof Pawn && to == position.getEnPassantSquare()) {
+            capturedSquare = piece.getColor().isWhite() ? to - 8 : to + 8;
+        } else if (piece instanceof King && Math.abs(to - from) == 2) {
+            moveCastlingRook(from, to);
+        }
+
+        ChessPiece captured = board[capturedSquare];
+        board[capturedSquare] = null;
+        board[from] = null;
+        if (piece instanceof Pawn && (to >= 56 || to < 8)) {
+            ChessPiece promoted = promotion != null ? promotion : Pieces.get(PieceType.QUEEN, piece.getColor());
+            board[to] = promoted;
+            position.makeMove(from, to, promoted.getPieceType().ordinal());
+        } else {
+            board[to] = piece;
+            position.makeMove(from, to, PieceType.QUEEN.ordinal());
+        }
+        return captured;
+    }
+
+    private void moveCastlingRook(int kingFrom, int kingTo) {
+        int rookFrom = kingTo > kingFrom ? kingFrom + 3 : kingFrom - 4;
+        int rookTo = kingTo > kingFrom ? kingFrom + 1 : kingFrom - 1;
+        board[rookTo] = board[rookFrom];
+        board[rookFrom] = null;
+    }
+
+    public BitboardPosition getPosition() {
+        return position;
+    }
+
+    public void clear() {
+        Arrays.fill(board, null);
+        position.clear();
+    }
+
+    public ChessPosition getKingPosition(PieceColor color) {
+        int square = position.kingSquare(color.ordinal());
+        return square < 0 ? null : Bitboards.toPosition(square);
+    }
+
+    public int getMaterialAdvantage() {
+        return position.getMaterialAdvantage();
+    }
+}
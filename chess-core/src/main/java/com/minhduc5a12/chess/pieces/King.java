@@ -0,0 +1,87 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Bitboards;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.utils.BoardUtils;
+
+import java.util.List;
+
+public class King extends ChessPiece {
+    King(PieceColor color) {
+        super(color, PieceType.KING);
+    }
+
+    @Override
+    public List<ChessMove> generateValidMoves(ChessPosition start, ChessPieceMap pieceMap) {
+        return PieceMoves.kingMoves(this, start, pieceMap);
+    }
+
+    public boolean canCastleKingside(ChessPosition start, ChessPieceMap pieceMap) {
+        int right = getColor().isWhite() ? BitboardPosition.WHITE_KINGSIDE : BitboardPosition.BLACK_KINGSIDE;
+        if (!hasCastlingRight(start, pieceMap, right) || BoardUtils.isKingInCheck(getColor(), pieceMap)) {
+            return false;
+        }
+        int row = start.row();
+        ChessPiece rook = pieceMap.getPiece(Bitboards.square(7, row));
+
+        if (!(rook instanceof Rook)) {
+            return false;
+        }
+
+        for (int col = start.col() + 1; col < 7; col++) {
+            if (pieceMap.hasPiece(Bitboards.square(col, row))) {
+                return false;
+            }
+        }
+
+        int opponent = getColor().getOpponent().ordinal();
+        for (int col = start.col() + 1; col <= start.col() + 2; col++) {
+            if (pieceMap.getPosition().isSquareAttacked(Bitboards.square(col, row), opponent)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean canCastleQueenside(ChessPosition start, ChessPieceMap pieceMap) {
+        int right = getColor().isWhite() ? BitboardPosition.WHITE_QUEENSIDE : BitboardPosition.BLACK_QUEENSIDE;
+        if (!hasCastlingRight(start, pieceMap, right) || BoardUtils.isKingInCheck(getColor(), pieceMap)) {
+            return false;
+        }
+        int row = start.row();
+        ChessPiece rook = pieceMap.getPiece(Bitboards.square(0, row)); // a1 hoặc a8
+
+        if (!(rook instanceof Rook)) {
+            return false;
+        }
+
+        for (int col = start.col() - 1; col > 0; col--) {
+            if (pieceMap.hasPiece(Bitboards.square(col, row))) {
+                return false;
+            }
+        }
+
+        int opponent = getColor().getOpponent().ordinal();
+        for (int col = start.col() - 1; col >= start.col() - 2; col--) {
+            if (pieceMap.getPosition().isSquareAttacked(Bitboards.square(col, row), opponent)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Quyền nhập thành lấy từ thế cờ, bị xóa khi Vua hoặc Xe rời ô xuất phát (hay Xe bị bắt)
+    private boolean hasCastlingRight(ChessPosition start, ChessPieceMap pieceMap, int right) {
+        return (pieceMap.getPosition().getCastlingRights() & right) != 0 && start.col() == 4 && start.row() == (getColor().isWhite() ? 0 : 7);
+    }
+
+    @Override
+    public String getPieceNotation() {
+        return this.getColor().isWhite() ? "K" : "k";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+
+import java.util.List;
+
+public class Knight extends ChessPiece {
+    Knight(PieceColor color) {
+        super(color, PieceType.KNIGHT);
+    }
+
+    @Override
+    public List<ChessMove> generateValidMoves(ChessPosition start, ChessPieceMap pieceMap) {
+        return PieceMoves.knightMoves(getColor(), start, pieceMap);
+    }
+
+    @Override
+    public String getPieceNotation() {
+        return this.getColor().isWhite() ? "N" : "n";
+    }
+}
\ No newline at end of file
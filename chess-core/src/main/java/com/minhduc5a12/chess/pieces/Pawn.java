@@ -0,0 +1,25 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+
+import java.util.List;
+
+public class Pawn extends ChessPiece {
+    Pawn(PieceColor color) {
+        super(color, PieceType.PAWN);
+    }
+
+    @Override
+    public List<ChessMove> generateValidMoves(ChessPosition start, ChessPieceMap pieceMap) {
+        return PieceMoves.pawnMoves(getColor(), start, pieceMap);
+    }
+
+    @Override
+    public String getPieceNotation() {
+        return this.getColor().isWhite() ? "P" : "p";
+    }
+}
\ No newline at end of file
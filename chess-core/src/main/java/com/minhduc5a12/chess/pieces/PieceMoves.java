@@ -0,0 +1,118 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.bitboard.Attacks;
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Bitboards;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.utils.BoardUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sinh nước đi của quân cờ bằng switch trên PieceType thay cho gọi ảo generateValidMoves.
+ * Nơi gọi thấy đủ sáu lớp quân nên JIT không inline được lời gọi ảo; switch trên trường final
+ * chỉ còn các lời gọi tĩnh đơn hình, inline được. Các lớp quân cũng gọi vào đây.
+ */
+public final class PieceMoves {
+    private PieceMoves() {
+        throw new AssertionError("Cannot instantiate PieceMoves class");
+    }
+
+    public static List<ChessMove> generate(ChessPiece piece, ChessPosition start, ChessPieceMap pieceMap) {
+        return switch (piece.getPieceType()) {
+            case PAWN -> pawnMoves(piece.getColor(), start, pieceMap);
+            case KNIGHT -> knightMoves(piece.getColor(), start, pieceMap);
+            case BISHOP -> sliderMoves(start, pieceMap, Attacks.bishopAttacks(start.index(), pieceMap.getPosition().occupied()), piece.getColor());
+            case ROOK -> sliderMoves(start, pieceMap, Attacks.rookAttacks(start.index(), pieceMap.getPosition().occupied()), piece.getColor());
+            case QUEEN -> sliderMoves(start, pieceMap, Attacks.queenAttacks(start.index(), pieceMap.getPosition().occupied()), piece.getColor());
+            case KING -> kingMoves((King) piece, start, pieceMap);
+        };
+    }
+
+    static List<ChessMove> pawnMoves(PieceColor color, ChessPosition start, ChessPieceMap pieceMap) {
+        List<ChessMove> moves = new ArrayList<>();
+        int direction = color.isWhite() ? 1 : -1;
+        int startRow = start.row();
+        int startCol = start.col();
+
+        // Di chuyển tiến lên
+        int newRow = startRow + direction;
+        if (newRow >= 0 && newRow <= 7) {
+            ChessPosition forward = ChessPosition.of(startCol, newRow);
+            if (!pieceMap.hasPiece(forward)) {
+                moves.add(new ChessMove(start, forward));
+                if ((color.isWhite() && startRow == 1) || (color.isBlack() && startRow == 6)) {
+                    ChessPosition twoForward = ChessPosition.of(startCol, startRow + 2 * direction);
+                    if (!pieceMap.hasPiece(twoForward)) {
+                        moves.add(new ChessMove(start, twoForward));
+                    }
+                }
+            }
+        }
+
+        // Bắt quân thông thường và bắt tốt qua đường (ô đích lấy từ trạng thái thế cờ), tra bảng tấn công của tốt
+        BitboardPosition position = pieceMap.getPosition();
+        long captures = position.occupancy(color.getOpponent());
+        int enPassantSquare = position.getEnPassantSquare();
+        if (enPassantSquare != BitboardPosition.NO_SQUARE && Bitboards.row(enPassantSquare) == (color.isWhite() ? 5 : 2)) {
+            captures |= Bitboards.bit(enPassantSquare);
+        }
+        addMoves(start, Attacks.pawnAttacks(color.ordinal(), start.index()) & captures, moves);
+
+        return moves;
+    }
+
+    static List<ChessMove> knightMoves(PieceColor color, ChessPosition start, ChessPieceMap pieceMap) {
+        return movesTo(start, Attacks.knightAttacks(start.index()) & ~pieceMap.getPosition().occupancy(color));
+    }
+
+    // Tượng, Xe, Hậu: attacks là các ô quân trượt tới được với thế cờ hiện tại
+    static List<ChessMove> sliderMoves(ChessPosition start, ChessPieceMap pieceMap, long attacks, PieceColor color) {
+        return movesTo(start, attacks & ~pieceMap.getPosition().occupancy(color));
+    }
+
+    static List<ChessMove> kingMoves(King king, ChessPosition start, ChessPieceMap pieceMap) {
+        List<ChessMove> moves = new ArrayList<>();
+        long ours = pieceMap.getPosition().occupancy(king.getColor());
+        for (int target : Attacks.kingTargets(start.index())) {
+            if ((ours & Bitboards.bit(target)) == 0) {
+                moves.add(new ChessMove(start, Bitboards.toPosition(target)));
+            }
+        }
+
+        List<ChessMove> validMoves = new ArrayList<>();
+
+        if (king.canCastleKingside(start, pieceMap)) {
+            moves.add(new ChessMove(start, ChessPosition.of(6, start.row())));
+        }
+
+        if (king.canCastleQueenside(start, pieceMap)) {
+            moves.add(new ChessMove(start, ChessPosition.of(2, start.row())));
+        }
+
+        for (ChessMove move : moves) {
+            if (BoardUtils.isLegalMove(move, pieceMap)) {
+                validMoves.add(move);
+            }
+        }
+
+        return validMoves;
+    }
+
+    private static List<ChessMove> movesTo(ChessPosition start, long targets) {
+        List<ChessMove> moves = new ArrayList<>(Long.bitCount(targets));
+        addMoves(start, targets, moves);
+        return moves;
+    }
+
+    private static void addMoves(ChessPosition start, long targets, List<ChessMove> moves) {
+        while (targets != 0) {
+            moves.add(new ChessMove(start, Bitboards.toPosition(Bitboards.lsb(targets))));
+            targets &= targets - 1;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessPiece;
+
+/**
+ * Mười hai quân cờ dùng chung (loại quân × màu). Quân không giữ trạng thái theo ván nên
+ * mọi bàn cờ và bản sao đều trỏ tới cùng các đối tượng này thay vì tạo quân mới.
+ */
+public final class Pieces {
+    // Chỉ số trùng với mã quân của BitboardPosition (color * 6 + type)
+    private static final ChessPiece[] PIECES = new ChessPiece[12];
+
+    static {
+        for (PieceColor color : PieceColor.values()) {
+            for (PieceType type : PieceType.values()) {
+                PIECES[BitboardPosition.pieceCode(type, color)] = switch (type) {
+                    case PAWN -> new Pawn(color);
+                    case KNIGHT -> new Knight(color);
+                    case BISHOP -> new Bishop(color);
+                    case ROOK -> new Rook(color);
+                    case QUEEN -> new Queen(color);
+                    case KING -> new King(color);
+                };
+            }
+        }
+    }
+
+    private Pieces() {
+        throw new AssertionError("Cannot instantiate Pieces class");
+    }
+
+    public static ChessPiece get(PieceType type, PieceColor color) {
+        return PIECES[BitboardPosition.pieceCode(type, color)];
+    }
+
+    public static ChessPiece get(int pieceCode) {
+        return PIECES[pieceCode];
+    }
+}
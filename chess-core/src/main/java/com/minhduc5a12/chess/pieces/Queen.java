@@ -0,0 +1,26 @@
+package com.minhduc5a12.chess.pieces;
+
+import com.minhduc5a12.chess.bitboard.Attacks;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+
+import java.util.List;
+
+public class Queen extends ChessPiece {
+    Queen(PieceColor color) {
+        super(color, PieceType.QUEEN);
+    }
+
+    @Override
+    public List<ChessMove> generateValidMoves(ChessPosition start, ChessPieceMap pieceMap) {
+        return PieceMoves.sliderMoves(start, pieceMap, Attacks.queenAttacks(start.index(), pieceMap.getPosition().occupied()), getColor());
+    }
+
+    @Override
+    public String getPieceNotation() {
+        return this.getColor().isWhite() ? "Q" : "q";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.bitboard.Bitboards;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPiece;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import com.minhduc5a12.chess.pieces.PieceMoves;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static com.minhduc5a12.chess.constants.GameConstants.Board.BOARD_SIZE;
+
+public class BoardUtils {
+    private static final Logger logger = LoggerFactory.getLogger(BoardUtils.class);
+
+    public static boolean isWithinBoard(int x, int y) {
+        return x >= 0 && x < BOARD_SIZE && y >= 0 && y < BOARD_SIZE;
+    }
+
+    public static boolean isKingInCheck(PieceColor color, ChessPieceMap pieceMap) {
+        return pieceMap.getPosition().isInCheck(color.ordinal());
+    }
+
+    public static boolean isCheckmate(PieceColor color, ChessPieceMap pieceMap) {
+        if (!isKingInCheck(color, pieceMap)) {
+            return false;
+        }
+
+        long pieces = pieceMap.getPosition().occupancy(color);
+        while (pieces != 0) {
+            ChessPosition pos = Bitboards.toPosition(Bitboards.lsb(pieces));
+            pieces &= pieces - 1;
+            ChessPiece piece = pieceMap.getPiece(pos);
+            List<ChessMove> moves = PieceMoves.generate(piece, pos, pieceMap);
+            for (ChessMove move : moves) {
+                if (isLegalMove(move, pieceMap)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static boolean isMoveValidUnderCheck(ChessMove move, ChessPieceMap pieceMap) {
+        ChessPiece piece = pieceMap.getPiece(move.start());
+        if (piece == null) return false;
+
+        PieceColor color = piece.getColor();
+
+        if (!isKingInCheck(color, pieceMap)) {
+            return piece.isValidMove(move, pieceMap);
+        }
+
+        return isLegalMove(move, pieceMap);
+    }
+
+    // Đi thử nước ngay trên bàn cờ rồi hoàn tác, không cần sao chép
+    public static boolean isLegalMove(ChessMove move, ChessPieceMap pieceMap) {
+        PieceColor color = pieceMap.getPiece(move.start()).getColor();
+        pieceMap.makeMove(move);
+        boolean legal = !isKingInCheck(color, pieceMap);
+        pieceMap.unmakeMove();
+        return legal;
+    }
+
+    public static ChessPieceMap simulateMove(ChessMove move, ChessPieceMap pieceMap) {
+        ChessPieceMap tempMap = new ChessPieceMap(pieceMap);
+
+        ChessPiece piece = tempMap.getPiece(move.start());
+        tempMap.removePiece(move.end());
+        tempMap.removePiece(move.start());
+        tempMap.setPiece(move.end(), piece);
+
+        return tempMap;
+    }
+
+    // https://en.wikipedia.org/wiki/Threefold_repetition
+    // history chứa khóa Zobrist của các thế cờ đã qua, phần tử cuối là thế cờ hiện tại
+    public static boolean isThreefoldRepetition(long[] history, int historySize, int halfmoveClock) {
+        int last = historySize - 1;
+        if (last < 0) {
+            return false;
+        }
+        // Chỉ so với các thế cờ cùng lượt đi, tính ngược tới nước không thể đảo ngược gần nhất
+        int earliest = Math.max(0, last - halfmoveClock);
+        long key = history[last];
+        int occurrences = 1;
+        for (int i = last - 2; i >= earliest; i -= 2) {
+            if (history[i] == key) {
+                occurrences++;
+            }
+        }
+        return occurrences >= 3; // Trả về true nếu trạng thái xuất hiện ít nhất 3 lần
+    }
+
+    // Thế cờ chết do thiếu quân, tra bằng bitboard trong O(1) (xem BitboardPosition.isInsufficientMaterial)
+    public static boolean isDeadPosition(ChessPieceMap pieceMap) {
+        if (pieceMap.getPosition().isInsufficientMaterial()) {
+            logger.info("Dead Position: insufficient material");
+            return true;
+        }
+        return false;
+    }
+
+    public static boolean isStalemate(PieceColor currentPlayerColor, ChessPieceMap pieceMap) {
+        if (isKingInCheck(currentPlayerColor, pieceMap)) {
+            return false;
+        }
+
+        long pieces = pieceMap.getPosition().occupancy(currentPlayerColor);
+        while (pieces != 0) {
+            ChessPosition start = Bitboards.toPosition(Bitboards.lsb(pieces));
+            pieces &= pieces - 1;
+            ChessPiece piece = pieceMap.getPiece(start);
+            List<ChessMove> moves = PieceMoves.generate(piece, start, pieceMap);
+            for (ChessMove move : moves) {
+                if (isLegalMove(move, pieceMap)) {
+                    logger.debug("Valid move found for {}: {} to {}", piece.getClass().getSimpleName(), start.toChessNotation(), move.end().toChessNotation());
+                    return false;
+                }
+            }
+        }
+
+        logger.info("Stalemate detected: No legal moves for {}", currentPlayerColor);
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+
+public class ChessNotationUtils {
+    // Ghi thẳng từ bitboard của bàn cờ, xem Fen.write
+    public String getFEN(ChessPieceMap pieceMap) {
+        return Fen.toFen(pieceMap.getPosition());
+    }
+
+    // Ký hiệu ô (ví dụ "e4") theo chỉ số ô a1 = 0, chuỗi dùng chung nên không cấp phát
+    public static String toNotation(int square) {
+        return ChessPosition.of(square).toChessNotation();
+    }
+
+    public static int toSquare(String chessNotation) {
+        return ChessPosition.toChessPosition(chessNotation).index();
+    }
+}
\ No newline at end of file
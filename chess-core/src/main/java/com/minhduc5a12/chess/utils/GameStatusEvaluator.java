@@ -0,0 +1,48 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.constants.GameConstants;
+import com.minhduc5a12.chess.constants.GameStatus;
+import com.minhduc5a12.chess.model.GameEvaluation;
+import com.minhduc5a12.chess.model.LegalMoves;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+
+/**
+ * Xác định trạng thái ván cờ sau mỗi nước với một lần sinh nước hợp lệ duy nhất,
+ * thay cho việc gọi lần lượt isCheckmate rồi isStalemate (mỗi hàm tự sinh lại toàn bộ nước đi).
+ */
+public class GameStatusEvaluator {
+    private GameStatusEvaluator() {
+        throw new AssertionError("Cannot instantiate GameStatusEvaluator class");
+    }
+
+    public static GameEvaluation evaluate(ChessPieceMap pieceMap) {
+        return evaluate(pieceMap, null, 0);
+    }
+
+    public static GameEvaluation evaluate(ChessPieceMap pieceMap, long[] history, int historySize) {
+        return evaluate(pieceMap, LegalMoves.of(pieceMap.getPosition()), history, historySize);
+    }
+
+    // legalMoves: nước hợp lệ của thế cờ hiện tại (ví dụ lấy từ LegalMoveCache)
+    // history: khóa Zobrist các thế cờ đã qua, phần tử cuối là thế cờ hiện tại (có thể null)
+    public static GameEvaluation evaluate(ChessPieceMap pieceMap, LegalMoves legalMoves, long[] history, int historySize) {
+        BitboardPosition position = pieceMap.getPosition();
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+
+        GameStatus status;
+        if (legalMoves.isEmpty()) {
+            status = inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        } else if (position.getHalfmoveClock() >= GameConstants.FIFTY_MOVE_RULE_LIMIT * 2) {
+            // Luật 50 nước tính theo nước đầy đủ, đồng hồ nửa nước đếm từng lượt
+            status = GameStatus.FIFTY_MOVE_RULE;
+        } else if (BoardUtils.isDeadPosition(pieceMap)) {
+            status = GameStatus.INSUFFICIENT_MATERIAL;
+        } else if (history != null && BoardUtils.isThreefoldRepetition(history, historySize, position.getHalfmoveClock())) {
+            status = GameStatus.THREEFOLD_REPETITION;
+        } else {
+            status = GameStatus.ONGOING;
+        }
+        return new GameEvaluation(status, inCheck, legalMoves);
+    }
+}
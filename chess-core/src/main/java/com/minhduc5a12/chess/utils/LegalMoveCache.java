@@ -0,0 +1,42 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.model.LegalMoves;
+
+import java.util.Arrays;
+
+/**
+ * Bộ đệm nước hợp lệ theo khóa Zobrist của thế cờ (ánh xạ trực tiếp, mỗi khóa một ô).
+ * Chọn quân, tô ô đích, đổi con trỏ khi rê chuột và kiểm tra nước đi cùng đọc một kết quả,
+ * nên mỗi thế cờ chỉ sinh nước một lần. Không đồng bộ hóa: giao diện chỉ dùng nó trên luồng Swing
+ * (nước của engine cũng được áp dụng qua SwingUtilities.invokeLater).
+ */
+public class LegalMoveCache {
+    private record Entry(long key, LegalMoves moves) {
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+
+    public LegalMoveCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    public LegalMoves get(BitboardPosition position) {
+        long key = position.getHash();
+        int index = (int) key & mask;
+        Entry entry = entries[index];
+        if (entry != null && entry.key() == key) {
+            return entry.moves();
+        }
+        LegalMoves moves = LegalMoves.of(position);
+        entries[index] = new Entry(key, moves);
+        return moves;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.minhduc5a12.chess.bitboard;
+
+import com.minhduc5a12.chess.constants.PieceType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BitboardPositionTest {
+    // Đặt một tốt cạnh ô en passant làm ô đó bắt được, khóa phải giống hệt thế cờ đọc thẳng từ FEN
+    @Test
+    public void editingPiecesRefreshesEnPassantKey() {
+        BitboardPosition position = Fen.parse("4k3/8/8/8/4P3/8/8/4K3 b - e3 0 1");
+        long before = position.getHash();
+        int d4 = Bitboards.square(3, 3);
+
+        position.putPiece(d4, BitboardPosition.pieceCode(PieceType.PAWN.ordinal(), BitboardPosition.BLACK));
+        assertTrue(position.isEnPassantCapturable());
+        assertEquals(Fen.parse("4k3/8/8/8/3pP3/8/8/4K3 b - e3 0 1").getHash(), position.getHash());
+        assertEquals(Zobrist.compute(position), position.getHash());
+
+        position.removePiece(d4);
+        assertEquals(before, position.getHash());
+    }
+
+    // Thế cờ dựng từ FEN cùng lịch sử ván phải nhận ra lần lặp xảy ra trước thế cờ gốc
+    @Test
+    public void repetitionSeesGameHistory() {
+        BitboardPosition game = Fen.parse(Fen.START_POSITION);
+        long[] history = new long[4];
+        int[] moves = {
+                Move.of(Bitboards.square(6, 0), Bitboards.square(5, 2), Move.QUIET),
+                Move.of(Bitboards.square(6, 7), Bitboards.square(5, 5), Move.QUIET),
+                Move.of(Bitboards.square(5, 2), Bitboards.square(6, 0), Move.QUIET),
+                Move.of(Bitboards.square(5, 5), Bitboards.square(6, 7), Move.QUIET)
+        };
+        for (int i = 0; i < moves.length; i++) {
+            history[i] = game.getHash();
+            game.makeMove(moves[i]);
+        }
+        assertTrue(game.isRepetition());
+
+        BitboardPosition root = Fen.parse(Fen.toFen(game));
+        assertFalse(root.isRepetition());
+        root.setGameHistory(history, history.length);
+        assertTrue(root.isRepetition());
+        root.makeMove(moves[0]);
+        assertTrue(root.isRepetition());
+        root.unmakeMove();
+
+        Fen.parse(Fen.START_POSITION, root);
+        assertFalse(root.isRepetition());
+    }
+
+    // Các thế cờ chuẩn của perft: có bắt quân, bắt tốt qua đường, nhập thành và phong cấp
+    private static final String[] REFERENCE_POSITIONS = {
+            Fen.START_POSITION,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"
+    };
+
+    // material và psqScores cập nhật dần phải luôn bằng giá trị tính lại từ đầu, sau mỗi makeMove và mỗi unmakeMove
+    @Test
+    public void incrementalScoresMatchRecompute() {
+        for (String fen : REFERENCE_POSITIONS) {
+            BitboardPosition position = Fen.parse(fen);
+            walk(position, 3);
+            assertScores(position);
+            assertEquals(fen, Fen.toFen(position));
+        }
+    }
+
+    private static void walk(BitboardPosition position, int depth) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            assertScores(position);
+            if (depth > 1) {
+                walk(position, depth - 1);
+            }
+            position.unmakeMove();
+            assertScores(position);
+        }
+    }
+
+    private static void assertScores(BitboardPosition position) {
+        int[] material = new int[2];
+        int[] psqScores = new int[2];
+        for (int square = 0; square < 64; square++) {
+            int piece = position.pieceAt(square);
+            if (piece != BitboardPosition.NO_PIECE) {
+                int color = BitboardPosition.colorOf(piece);
+                material[color] += PieceSquareTables.materialPoints(BitboardPosition.typeOf(piece));
+                psqScores[color] += PieceSquareTables.score(piece, square);
+            }
+        }
+        BitboardPosition parsed = Fen.parse(Fen.toFen(position));
+        for (int color = 0; color < 2; color++) {
+            assertEquals(material[color], position.getMaterial(color));
+            assertEquals(psqScores[color], position.getPsqScore(color));
+            assertEquals(parsed.getMaterial(color), position.getMaterial(color));
+            assertEquals(parsed.getPsqScore(color), position.getPsqScore(color));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.minhduc5a12.chess.bitboard;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class FenTest {
+    private static final String[] VALID = {
+            Fen.START_POSITION,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2",
+            "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 12 57",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 b - - 0 10"
+    };
+
+    @Test
+    public void roundTrip() {
+        byte[] buffer = new byte[Fen.MAX_LENGTH];
+        StringBuilder builder = new StringBuilder();
+        for (String fen : VALID) {
+            BitboardPosition position = Fen.parse(fen);
+            assertEquals(fen, Fen.toFen(position));
+            builder.setLength(0);
+            assertEquals(fen, Fen.write(position, builder).toString());
+            int length = Fen.write(position, buffer, 0);
+            assertEquals(fen, new String(buffer, 0, length, StandardCharsets.US_ASCII));
+            assertEquals(Zobrist.compute(position), position.getHash());
+        }
+    }
+
+    @Test
+    public void parseIntoReusesPosition() {
+        BitboardPosition position = Fen.parse(VALID[1]);
+        Fen.parse(VALID[4], position);
+        assertEquals(VALID[4], Fen.toFen(position));
+        assertEquals(Zobrist.compute(position), position.getHash());
+    }
+
+    // Đồng hồ nửa nước lớn (hợp lệ về cú pháp) phải được khôi phục nguyên vẹn sau make/unmake
+    @Test
+    public void largeHalfmoveClockSurvivesUnmake() {
+        String fen = "4k3/8/8/8/8/8/8/R3K3 w - - 123456789 1";
+        BitboardPosition position = Fen.parse(fen);
+        position.makeMove(Move.of(0, 8, Move.QUIET));
+        assertEquals(123456790, position.getHalfmoveClock());
+        position.unmakeMove();
+        assertEquals(fen, Fen.toFen(position));
+    }
+
+    @Test
+    public void countersAreOptional() {
+        assertEquals("8/8/8/8/8/8/8/K1k5 w - - 0 1", Fen.toFen(Fen.parse("8/8/8/8/8/8/8/K1k5 w - -")));
+    }
+
+    @Test
+    public void rejectsMalformedFen() {
+        String[] invalid = {
+                "",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/44/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/ppppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNX w KQkq - 0 1",
+                "rnbqqbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w QK - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBN1 w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e3 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e6 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - x 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1 extra",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w  KQkq - 0 1",
+                "4k3/8/8/8/8/8/8/4K2r b - - 0 1",
+                "P3k3/8/8/8/8/8/8/4K3 w - - 0 1"
+        };
+        for (String fen : invalid) {
+            try {
+                Fen.parse(fen);
+                fail("accepted invalid FEN: " + fen);
+            } catch (IllegalArgumentException expected) {
+                // đúng như mong đợi
+            }
+        }
+    }
+}
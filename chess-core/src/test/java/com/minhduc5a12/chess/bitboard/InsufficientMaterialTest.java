@@ -0,0 +1,35 @@
+package com.minhduc5a12.chess.bitboard;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InsufficientMaterialTest {
+    private static boolean dead(String fen) {
+        return Fen.parse(fen).isInsufficientMaterial();
+    }
+
+    @Test
+    public void deadPositions() {
+        assertTrue(dead("8/8/4k3/8/8/3K4/8/8 w - - 0 1"));
+        assertTrue(dead("8/8/4k3/8/8/3K4/8/6N1 w - - 0 1"));
+        assertTrue(dead("8/8/4k3/8/8/3K4/8/6n1 b - - 0 1"));
+        assertTrue(dead("8/8/4k3/8/8/3K4/8/5B2 w - - 0 1"));
+        // Tượng hai bên cùng màu ô, kể cả khi có nhiều tượng
+        assertTrue(dead("8/8/4k3/8/8/3K4/8/3b1B2 w - - 0 1"));
+        assertTrue(dead("2b5/8/4k3/8/8/3K4/6B1/5B2 w - - 0 1"));
+    }
+
+    @Test
+    public void livePositions() {
+        assertFalse(dead(Fen.START_POSITION));
+        assertFalse(dead("8/8/4k3/8/8/3K4/4P3/8 w - - 0 1"));
+        assertFalse(dead("8/8/4k3/8/8/3K4/8/R7 w - - 0 1"));
+        // Tượng khác màu ô, hai mã, mã đấu tượng, mã đấu mã: vẫn có thể chiếu hết
+        assertFalse(dead("8/8/4k3/8/8/3K4/8/2b2B2 w - - 0 1"));
+        assertFalse(dead("8/8/4k3/8/8/3K4/8/1N4N1 w - - 0 1"));
+        assertFalse(dead("8/8/4k3/8/8/3K4/8/2b3N1 w - - 0 1"));
+        assertFalse(dead("8/8/4k3/8/8/3K4/8/1n4N1 w - - 0 1"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.minhduc5a12.chess.bitboard;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Số nút chuẩn lấy từ https://www.chessprogramming.org/Perft_Results
+public class PerftTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_4_MIRRORED = "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    private static final String POSITION_6 = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    private static void assertPerft(String fen, long... expected) {
+        BitboardPosition position = Fen.parse(fen);
+        long hash = position.getHash();
+        for (int depth = 1; depth <= expected.length; depth++) {
+            assertEquals("depth " + depth + " of " + fen, expected[depth - 1], Perft.perft(position, depth));
+        }
+        assertEquals("position not restored after perft", hash, position.getHash());
+    }
+
+    @Test
+    public void startPosition() {
+        assertPerft(Fen.START_POSITION, 20, 400, 8902, 197281, 4865609);
+    }
+
+    @Test
+    public void kiwipete() {
+        assertPerft(KIWIPETE, 48, 2039, 97862, 4085603);
+    }
+
+    @Test
+    public void position3() {
+        assertPerft(POSITION_3, 14, 191, 2812, 43238, 674624, 11030083);
+    }
+
+    @Test
+    public void position4() {
+        assertPerft(POSITION_4, 6, 264, 9467, 422333);
+    }
+
+    @Test
+    public void position4Mirrored() {
+        assertPerft(POSITION_4_MIRRORED, 6, 264, 9467, 422333);
+    }
+
+    @Test
+    public void position5() {
+        assertPerft(POSITION_5, 44, 1486, 62379, 2103487);
+    }
+
+    @Test
+    public void position6() {
+        assertPerft(POSITION_6, 46, 2079, 89890, 3894594);
+    }
+
+    // Sinh theo giai đoạn (bắt quân rồi yên lặng) phải cho đúng cùng cây với generateLegalMoves
+    private static long stagedPerft(BitboardPosition position, int depth) {
+        MoveList captures = new MoveList();
+        MoveList quiets = new MoveList();
+        MoveGenerator.generateLegalCaptures(position, captures);
+        MoveGenerator.generateLegalQuiets(position, quiets);
+        for (int i = 0; i < captures.size(); i++) {
+            int move = captures.get(i);
+            assertTrue(Move.toUci(move), Move.isCapture(move) || Move.isPromotion(move));
+        }
+        for (int i = 0; i < quiets.size(); i++) {
+            int move = quiets.get(i);
+            assertTrue(Move.toUci(move), !Move.isCapture(move) && !Move.isPromotion(move));
+        }
+        if (depth == 1) {
+            return captures.size() + quiets.size();
+        }
+        long nodes = 0;
+        for (MoveList moves : new MoveList[]{captures, quiets}) {
+            for (int i = 0; i < moves.size(); i++) {
+                position.makeMove(moves.get(i));
+                nodes += stagedPerft(position, depth - 1);
+                position.unmakeMove();
+            }
+        }
+        return nodes;
+    }
+
+    @Test
+    public void stagedGenerationMatchesPerft() {
+        assertEquals(97862L, stagedPerft(Fen.parse(KIWIPETE), 3));
+        assertEquals(43238L, stagedPerft(Fen.parse(POSITION_3), 4));
+        assertEquals(9467L, stagedPerft(Fen.parse(POSITION_4), 3));
+        assertEquals(62379L, stagedPerft(Fen.parse(POSITION_5), 3));
+    }
+
+    @Test
+    public void divideSumsToPerft() {
+        BitboardPosition position = Fen.parse(KIWIPETE);
+        Map<String, Long> divide = Perft.divide(position, 3);
+        assertEquals(48, divide.size());
+        assertEquals(97862L, divide.values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(divide.containsKey("e1g1"));
+        assertTrue(divide.containsKey("e1c1"));
+    }
+}
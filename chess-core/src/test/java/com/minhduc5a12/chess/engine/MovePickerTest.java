@@ -0,0 +1,126 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.bitboard.Move;
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+import com.minhduc5a12.chess.bitboard.MoveList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MovePickerTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private static int find(BitboardPosition position, String uci) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toUci(moves.get(i)).equals(uci)) {
+                return moves.get(i);
+            }
+        }
+        throw new AssertionError("No move " + uci);
+    }
+
+    private static List<Integer> drain(MovePicker picker) {
+        List<Integer> result = new ArrayList<>();
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            result.add(move);
+        }
+        return result;
+    }
+
+    private static Set<Integer> legalMoves(BitboardPosition position) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+        Set<Integer> result = new HashSet<>();
+        for (int i = 0; i < moves.size(); i++) {
+            result.add(moves.get(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void yieldsEveryLegalMoveOnceWithHashMoveFirst() {
+        BitboardPosition position = Fen.parse(KIWIPETE);
+        int hashMove = find(position, "e1g1");
+        MovePicker picker = new MovePicker(new MoveOrdering());
+        picker.init(position, hashMove, 0);
+
+        List<Integer> picked = drain(picker);
+        assertEquals(hashMove, (int) picked.get(0));
+        assertEquals(48, picked.size());
+        assertEquals(legalMoves(position), new HashSet<>(picked));
+    }
+
+    @Test
+    public void capturesComeFirstInMvvLvaOrder() {
+        BitboardPosition position = Fen.parse(KIWIPETE);
+        MovePicker picker = new MovePicker(new MoveOrdering());
+        picker.init(position, Move.NONE, 0);
+
+        List<Integer> picked = drain(picker);
+        boolean quietSeen = false;
+        int previousScore = Integer.MAX_VALUE;
+        for (int move : picked) {
+            boolean noisy = Move.isCapture(move) || Move.isPromotion(move);
+            if (noisy) {
+                assertFalse("capture after quiet move " + Move.toUci(move), quietSeen);
+                int score = MoveOrdering.mvvLva(position, move);
+                assertTrue(score <= previousScore);
+                previousScore = score;
+            } else {
+                quietSeen = true;
+            }
+        }
+        // Hậu trắng bắt Mã đen f6 xếp trước Hậu bắt tốt h3
+        assertTrue(picked.indexOf(find(position, "f3f6")) < picked.indexOf(find(position, "f3h3")));
+    }
+
+    @Test
+    public void illegalHashMoveIsIgnored() {
+        BitboardPosition position = Fen.parse(Fen.START_POSITION);
+        int castle = find(Fen.parse(KIWIPETE), "e1g1");
+        MovePicker picker = new MovePicker(new MoveOrdering());
+        picker.init(position, castle, 0);
+
+        List<Integer> picked = drain(picker);
+        assertEquals(20, picked.size());
+        assertFalse(picked.contains(castle));
+    }
+
+    @Test
+    public void killerIsTriedBeforeOtherQuietMoves() {
+        BitboardPosition position = Fen.parse(Fen.START_POSITION);
+        MoveOrdering ordering = new MoveOrdering();
+        MovePicker picker = new MovePicker(ordering);
+        int killer = find(position, "b1c3");
+        ordering.updateQuietCutoff(position.getSideToMove(), killer, 3, 4, picker);
+
+        picker.init(position, Move.NONE, 3);
+        assertEquals(killer, picker.next());
+        assertEquals(Move.NONE, ordering.killer(4, 0));
+    }
+
+    @Test
+    public void quiescenceYieldsOnlyCapturesAndPromotions() {
+        BitboardPosition position = Fen.parse(KIWIPETE);
+        MovePicker picker = new MovePicker(new MoveOrdering());
+        picker.initQuiescence(position);
+
+        List<Integer> picked = drain(picker);
+        assertEquals(8, picked.size());
+        for (int move : picked) {
+            assertTrue(Move.isCapture(move));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.bitboard.Move;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SearchTest {
+    private static SearchResult search(String fen, int depth) {
+        return new Search(Fen.parse(fen)).run(SearchLimits.ofDepth(depth));
+    }
+
+    @Test
+    public void findsMateInOne() {
+        SearchResult result = search("6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1", 3);
+        assertEquals("d1d8", Move.toUci(result.bestMove()));
+        assertEquals(Search.MATE - 1, result.score());
+    }
+
+    @Test
+    public void findsMateInTwo() {
+        // Vua Trắng áp sát rồi Xe chiếu hết ở hàng 8
+        SearchResult result = search("7k/8/5K2/8/8/8/8/R7 w - - 0 1", 4);
+        assertEquals(Search.MATE - 3, result.score());
+    }
+
+    // Chiếu hết đúng ở nửa nước thứ 100 được ưu tiên hơn hòa do luật 50 nước
+    @Test
+    public void mateOnHundredthHalfmoveIsNotDraw() {
+        SearchResult result = search("6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 99 80", 3);
+        assertEquals("d1d8", Move.toUci(result.bestMove()));
+        assertEquals(Search.MATE - 1, result.score());
+    }
+
+    @Test
+    public void capturesHangingQueen() {
+        SearchResult result = search("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1", 3);
+        assertEquals("d2d5", Move.toUci(result.bestMove()));
+    }
+
+    @Test
+    public void noMoveWhenMated() {
+        AlphaBetaEngine engine = new AlphaBetaEngine(1, 1);
+        assertNull(engine.getBestMove("3R2k1/5ppp/8/8/8/8/5PPP/6K1 b - - 0 1", SearchLimits.ofDepth(4)));
+    }
+
+    @Test
+    public void parallelSearchFindsMate() {
+        AlphaBetaEngine engine = new AlphaBetaEngine(1, 4);
+        try {
+            SearchResult result = engine.search("7k/8/5K2/8/8/8/8/R7 w - - 0 1", SearchLimits.ofDepth(5));
+            assertEquals(Search.MATE - 3, result.score());
+            assertEquals("d1d8", engine.getBestMove("6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1", SearchLimits.ofDepth(5)));
+            // Luồng phụ luôn duyệt ít nhất một nút kể cả khi tới lúc luồng chính đã xong (cờ dừng chỉ được xem định kỳ)
+            SearchResult last = engine.search("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", SearchLimits.ofDepth(4));
+            long sum = 0;
+            for (int i = 0; i < engine.getThreads(); i++) {
+                assertTrue("thread " + i + " searched no nodes", engine.getThreadNodes(i) > 0);
+                assertTrue(engine.getThreadNps(i) > 0);
+                sum += engine.getThreadNodes(i);
+            }
+            assertEquals(last.nodes(), sum);
+        } finally {
+            engine.stopEngine();
+        }
+    }
+
+    @Test
+    public void stopsAtNodeLimit() {
+        SearchResult result = new Search(Fen.parse(Fen.START_POSITION)).run(SearchLimits.ofNodes(5000));
+        assertTrue(result.nodes() <= 5000);
+        assertTrue(result.bestMove() != Move.NONE);
+    }
+
+    // Giới hạn nodes tính trên tổng mọi luồng; mỗi luồng có thể vượt tối đa một lần cộng dồn (256 nút)
+    @Test
+    public void nodeLimitIsSharedBetweenThreads() {
+        AlphaBetaEngine engine = new AlphaBetaEngine(1, 4);
+        try {
+            SearchResult result = engine.search(Fen.START_POSITION, SearchLimits.ofNodes(20_000));
+            assertTrue("searched " + result.nodes(), result.nodes() <= 20_000 + 4 * 256);
+            assertTrue(result.bestMove() != Move.NONE);
+        } finally {
+            engine.stopEngine();
+        }
+    }
+
+    // Không so thời gian chạy (dễ sai trên máy CI bận): chỉ kiểm tra lượt tìm không tự kết thúc trước khi stop() được gọi
+    @Test(timeout = 30_000)
+    public void infiniteSearchRunsUntilStopped() throws Exception {
+        AlphaBetaEngine engine = new AlphaBetaEngine(1, 1);
+        AtomicBoolean stopSent = new AtomicBoolean();
+        Thread stopper = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stopSent.set(true);
+            engine.stop();
+        });
+        stopper.start();
+        String move = engine.getBestMove(Fen.START_POSITION, SearchLimits.ofInfinite());
+        assertTrue(stopSent.get());
+        stopper.join();
+        assertTrue(move != null);
+    }
+
+    // stop() tới trước khi lượt tìm đã yêu cầu kịp bắt đầu vẫn phải dừng nó
+    @Test(timeout = 10_000)
+    public void stopBeforeSearchStartsIsNotLost() {
+        AlphaBetaEngine engine = new AlphaBetaEngine(1, 1);
+        long searchId = engine.requestSearch();
+        engine.stop();
+        assertTrue(engine.getBestMove(searchId, Fen.START_POSITION, null, 0, SearchLimits.ofInfinite()) != null);
+        assertEquals(2, engine.search(Fen.START_POSITION, SearchLimits.ofDepth(2)).depth());
+    }
+
+    @Test
+    public void clockLimitsStayInsideRemainingTime() {
+        TimeManager timeManager = new TimeManager();
+        timeManager.start(SearchLimits.ofClock(60_000, 1_000, 0, 0), BitboardPosition.BLACK, 0);
+        assertTrue(timeManager.getSoftLimitMillis() <= timeManager.getHardLimitMillis());
+        assertTrue(timeManager.getHardLimitMillis() < 1_000);
+
+        timeManager.start(SearchLimits.ofClock(60_000, 1_000, 2_000, 0).withMovesToGo(1), BitboardPosition.WHITE, 0);
+        assertTrue(timeManager.getHardLimitMillis() <= 60_000 * 8 / 10);
+
+        timeManager.start(SearchLimits.ofMoveTime(1_000), BitboardPosition.WHITE, 0);
+        assertEquals(1_000 - TimeManager.MOVE_OVERHEAD_MS, timeManager.getHardLimitMillis());
+        assertTrue(timeManager.getSoftLimitMillis() < timeManager.getHardLimitMillis());
+
+        timeManager.start(SearchLimits.ofDepth(8), BitboardPosition.WHITE, 0);
+        assertEquals(Long.MAX_VALUE, timeManager.getHardLimitMillis());
+    }
+
+    @Test
+    public void uciGoCommand() {
+        assertEquals("go depth 10", SearchLimits.ofDepth(10).toUciGo());
+        assertEquals("go wtime 60000 btime 50000 winc 1000 binc 1000", SearchLimits.ofClock(60_000, 50_000, 1_000, 1_000).toUciGo());
+        assertEquals("go infinite", SearchLimits.ofInfinite().toUciGo());
+    }
+
+    // Mốc thời gian đã kiểm tra chính xác qua TimeManager; ở đây chỉ cần lượt tìm tự dừng, giới hạn rất rộng cho máy chậm
+    @Test(timeout = 30_000)
+    public void stopsAtMoveTime() {
+        SearchResult result = new Search(Fen.parse(Fen.START_POSITION)).run(SearchLimits.ofMoveTime(200));
+        assertTrue(result.depth() >= 1);
+    }
+}
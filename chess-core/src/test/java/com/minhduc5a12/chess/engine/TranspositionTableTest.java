@@ -0,0 +1,88 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.Move;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TranspositionTableTest {
+    @Test
+    public void storeAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        int move = Move.of(12, 28, Move.DOUBLE_PAWN_PUSH);
+        table.store(0x1234_5678_9ABC_DEF0L, move, -Search.MATE + 7, 9, TranspositionTable.LOWER);
+
+        long data = table.probe(0x1234_5678_9ABC_DEF0L);
+        assertEquals(move, TranspositionTable.move(data));
+        assertEquals(-Search.MATE + 7, TranspositionTable.score(data));
+        assertEquals(9, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(data));
+    }
+
+    @Test
+    public void otherKeyOnSameSlotMisses() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x0F0F_0000_0000_0042L;
+        long collision = key ^ (1L << 40); // Cùng các bit thấp nên cùng ô
+        table.store(key, Move.NONE, 10, 3, TranspositionTable.EXACT);
+        assertEquals(TranspositionTable.MISS, table.probe(collision));
+    }
+
+    @Test
+    public void keepsHashMoveWhenStoringWithoutMove() {
+        TranspositionTable table = new TranspositionTable(1);
+        int move = Move.of(6, 21, Move.QUIET);
+        table.store(99L, move, 0, 2, TranspositionTable.EXACT);
+        table.store(99L, Move.NONE, -30, 3, TranspositionTable.UPPER);
+        assertEquals(move, TranspositionTable.move(table.probe(99L)));
+    }
+
+    // Không cấp phát thật 8 GB: chỉ kiểm tra số ô và độ dài mảng tương ứng
+    @Test
+    public void largestSizeFitsInOneArray() {
+        int entries = TranspositionTable.entriesFor(TranspositionTable.MAX_SIZE_MB);
+        assertEquals(TranspositionTable.MAX_ENTRIES, entries);
+        assertTrue(entries * 2 > 0);
+        assertEquals(1 << 16, TranspositionTable.entriesFor(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSizeAboveMaximum() {
+        new TranspositionTable(TranspositionTable.MAX_SIZE_MB + 1);
+    }
+
+    // Nhiều luồng ghi đè cùng các ô: mọi lần đọc trúng phải trả về đúng dữ liệu của khóa đó
+    @Test
+    public void concurrentAccessNeverReturnsForeignData() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1);
+        int slots = 64;
+        AtomicInteger corrupted = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t + 1;
+            threads[t] = new Thread(() -> {
+                long x = seed;
+                for (int i = 0; i < 200_000; i++) {
+                    x ^= x << 13;
+                    x ^= x >>> 7;
+                    x ^= x << 17;
+                    long key = (x & ~0xFFFFFFL) | (x & (slots - 1));
+                    int score = (int) (key >>> 48) % 1000;
+                    table.store(key, Move.NONE, score, 1, TranspositionTable.EXACT);
+                    long data = table.probe(key);
+                    if (data != TranspositionTable.MISS && TranspositionTable.score(data) != score) {
+                        corrupted.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, corrupted.get());
+    }
+}
@@ -0,0 +1,101 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.bitboard.MoveGenerator;
+import com.minhduc5a12.chess.constants.GameStatus;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.model.GameEvaluation;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GameStatusEvaluatorTest {
+    private static GameEvaluation evaluate(ChessPieceMap pieceMap, long[] history, int historySize) {
+        GameEvaluation evaluation = GameStatusEvaluator.evaluate(pieceMap, history, historySize);
+        // Danh sách nước trả về phải đúng bằng kết quả sinh nước hợp lệ của thế cờ
+        List<ChessMove> expected = new ArrayList<>();
+        MoveGenerator.generateLegalMoves(pieceMap.getPosition(), expected);
+        assertEquals(expected, evaluation.legalMoves().all());
+        return evaluation;
+    }
+
+    private static GameEvaluation evaluate(String fen) {
+        return evaluate(ChessPieceMap.fromPosition(Fen.parse(fen)), null, 0);
+    }
+
+    private static ChessMove move(String start, String end) {
+        return new ChessMove(ChessPosition.toChessPosition(start), ChessPosition.toChessPosition(end));
+    }
+
+    @Test
+    public void checkmate() {
+        GameEvaluation evaluation = evaluate("3R2k1/5ppp/8/8/8/8/5PPP/6K1 b - - 1 1");
+        assertEquals(GameStatus.CHECKMATE, evaluation.status());
+        assertTrue(evaluation.inCheck());
+        assertTrue(evaluation.isGameOver());
+        assertTrue(evaluation.legalMoves().isEmpty());
+    }
+
+    @Test
+    public void stalemate() {
+        GameEvaluation evaluation = evaluate("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        assertEquals(GameStatus.STALEMATE, evaluation.status());
+        assertFalse(evaluation.inCheck());
+        assertTrue(evaluation.legalMoves().isEmpty());
+    }
+
+    @Test
+    public void fiftyMoveRuleStartsAtHundredHalfmoves() {
+        assertEquals(GameStatus.ONGOING, evaluate("8/8/4k3/8/8/3K4/4P3/8 w - - 99 80").status());
+        GameEvaluation evaluation = evaluate("8/8/4k3/8/8/3K4/4P3/8 w - - 100 80");
+        assertEquals(GameStatus.FIFTY_MOVE_RULE, evaluation.status());
+        assertFalse(evaluation.legalMoves().isEmpty());
+        // Chiếu hết đúng ở nửa nước thứ 100 vẫn là chiếu hết
+        assertEquals(GameStatus.CHECKMATE, evaluate("3R2k1/5ppp/8/8/8/8/5PPP/6K1 b - - 100 80").status());
+    }
+
+    @Test
+    public void insufficientMaterial() {
+        GameEvaluation evaluation = evaluate("8/8/4k3/8/8/3K4/8/6N1 w - - 0 1");
+        assertEquals(GameStatus.INSUFFICIENT_MATERIAL, evaluation.status());
+        assertFalse(evaluation.legalMoves().isEmpty());
+    }
+
+    @Test
+    public void threefoldRepetition() {
+        ChessPieceMap pieceMap = ChessPieceMap.fromPosition(Fen.parse(Fen.START_POSITION));
+        BitboardPosition position = pieceMap.getPosition();
+        long[] history = new long[16];
+        int historySize = 0;
+        history[historySize++] = position.getHash();
+        ChessMove[] shuffle = {move("g1", "f3"), move("g8", "f6"), move("f3", "g1"), move("f6", "g8")};
+        for (int round = 0; round < 2; round++) {
+            for (ChessMove chessMove : shuffle) {
+                assertEquals(GameStatus.ONGOING, evaluate(pieceMap, history, historySize).status());
+                pieceMap.applyMove(chessMove, null);
+                history[historySize++] = position.getHash();
+            }
+        }
+        // Thế cờ ban đầu xuất hiện lần thứ ba
+        GameEvaluation evaluation = evaluate(pieceMap, history, historySize);
+        assertEquals(GameStatus.THREEFOLD_REPETITION, evaluation.status());
+        assertEquals(20, evaluation.legalMoves().size());
+    }
+
+    @Test
+    public void ongoing() {
+        GameEvaluation evaluation = evaluate(Fen.START_POSITION);
+        assertEquals(GameStatus.ONGOING, evaluation.status());
+        assertFalse(evaluation.inCheck());
+        assertFalse(evaluation.isGameOver());
+        assertEquals(20, evaluation.legalMoves().size());
+    }
+}
@@ -0,0 +1,82 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
+import com.minhduc5a12.chess.bitboard.Fen;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.model.LegalMoves;
+import com.minhduc5a12.chess.pieces.ChessPieceMap;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LegalMoveCacheTest {
+    private static ChessMove move(String start, String end) {
+        return new ChessMove(ChessPosition.toChessPosition(start), ChessPosition.toChessPosition(end));
+    }
+
+    private static void assertFresh(BitboardPosition position, LegalMoves cached) {
+        assertEquals(LegalMoves.of(position).all(), cached.all());
+    }
+
+    @Test
+    public void sameKeyIsHit() {
+        LegalMoveCache cache = new LegalMoveCache(64);
+        BitboardPosition position = Fen.parse(Fen.START_POSITION);
+        LegalMoves first = cache.get(position);
+        assertSame(first, cache.get(position));
+        assertSame(first, cache.get(Fen.parse(Fen.START_POSITION)));
+        assertFresh(position, first);
+    }
+
+    @Test
+    public void followsMakeUnmakeAndApplyMove() {
+        LegalMoveCache cache = new LegalMoveCache(64);
+        ChessPieceMap pieceMap = ChessPieceMap.fromPosition(Fen.parse(Fen.START_POSITION));
+        BitboardPosition position = pieceMap.getPosition();
+        LegalMoves start = cache.get(position);
+
+        pieceMap.makeMove(move("e2", "e4"));
+        LegalMoves afterMake = cache.get(position);
+        assertNotSame(start, afterMake);
+        assertFresh(position, afterMake);
+
+        pieceMap.unmakeMove();
+        assertSame(start, cache.get(position));
+
+        pieceMap.applyMove(move("g1", "f3"), null);
+        LegalMoves afterApply = cache.get(position);
+        assertNotSame(start, afterApply);
+        assertFresh(position, afterApply);
+        assertTrue(afterApply.contains(move("g8", "f6")));
+    }
+
+    // Cùng cách đặt quân nhưng khác lượt đi, quyền nhập thành hoặc ô en passant là thế cờ khác
+    @Test
+    public void noStaleMovesForSamePlacement() {
+        LegalMoveCache cache = new LegalMoveCache(64);
+        String[][] variants = {
+                {"r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1"},
+                {"r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", "r3k2r/8/8/8/8/8/8/R3K2R w kq - 0 1"},
+                {"4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "4k3/8/8/3pP3/8/8/8/4K3 w - - 0 1"}
+        };
+        for (String[] pair : variants) {
+            BitboardPosition first = Fen.parse(pair[0]);
+            BitboardPosition second = Fen.parse(pair[1]);
+            LegalMoves firstMoves = cache.get(first);
+            LegalMoves secondMoves = cache.get(second);
+            assertFresh(first, firstMoves);
+            assertFresh(second, secondMoves);
+            assertFresh(first, cache.get(first));
+        }
+        // Chỉ thế cờ còn quyền nhập thành / còn ô en passant mới có các nước đó
+        assertTrue(cache.get(Fen.parse(variants[1][0])).contains(move("e1", "g1")));
+        assertFalse(cache.get(Fen.parse(variants[1][1])).contains(move("e1", "g1")));
+        assertTrue(cache.get(Fen.parse(variants[2][0])).contains(move("e5", "d6")));
+        assertFalse(cache.get(Fen.parse(variants[2][1])).contains(move("e5", "d6")));
+    }
+}
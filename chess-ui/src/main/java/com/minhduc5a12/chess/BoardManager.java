@@ -1,40 +1,47 @@
 package com.minhduc5a12.chess;
 
+import com.minhduc5a12.chess.bitboard.BitboardPosition;
 import com.minhduc5a12.chess.constants.GameConstants;
 import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
 import com.minhduc5a12.chess.model.ChessMove;
 import com.minhduc5a12.chess.model.ChessPiece;
 import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.model.GameEvaluation;
+import com.minhduc5a12.chess.model.LegalMoves;
 import com.minhduc5a12.chess.pieces.*;
-import com.minhduc5a12.chess.utils.BoardUtils;
 import com.minhduc5a12.chess.utils.ChessNotationUtils;
+import com.minhduc5a12.chess.utils.GameStatusEvaluator;
+import com.minhduc5a12.chess.utils.LegalMoveCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public class BoardManager {
     protected static final Logger logger = LoggerFactory.getLogger(BoardManager.class);
+    private static final int LEGAL_MOVE_CACHE_SIZE = 256;
 
     // Fields
     private final ChessTile[][] tiles = new ChessTile[GameConstants.Board.BOARD_SIZE][GameConstants.Board.BOARD_SIZE];
     private final ChessPieceMap chessPieceMap;
-    private final Map<String, Integer> boardStateHistory;
+    // Khóa Zobrist của các thế cờ đã qua, theo thứ tự nước đi
+    private long[] positionHistory = new long[256];
+    private int positionHistorySize = 0;
     private final ChessNotationUtils notationUtils;
     private ChessTile currentLeftClickedTile;
     private List<ChessMove> currentValidMoves;
     private ChessMove lastMove;
+    private GameEvaluation gameEvaluation;
+    // Nước hợp lệ theo khóa thế cờ, dùng chung cho chọn quân, tô ô, con trỏ chuột và kiểm tra nước đi
+    private final LegalMoveCache legalMoveCache = new LegalMoveCache(LEGAL_MOVE_CACHE_SIZE);
     protected PieceColor currentPlayerColor = PieceColor.WHITE;
-    protected int halfmoveClock = 0;
-    protected int fullmoveNumber = 1;
 
     // Constructor
     public BoardManager() {
         this.chessPieceMap = new ChessPieceMap();
-        this.boardStateHistory = new HashMap<>();
         this.notationUtils = new ChessNotationUtils();
         this.currentLeftClickedTile = null;
         this.currentValidMoves = new ArrayList<>();
@@ -46,7 +53,7 @@ public class BoardManager {
     private void initializeTiles() {
         for (int row = 0; row < GameConstants.Board.BOARD_SIZE; row++) {
             for (int col = 0; col < GameConstants.Board.BOARD_SIZE; col++) {
-                tiles[row][col] = new ChessTile(new ChessPosition(col, GameConstants.Board.BOARD_SIZE - row - 1), (ChessController) this);
+                tiles[row][col] = new ChessTile(ChessPosition.of(col, GameConstants.Board.BOARD_SIZE - row - 1), (ChessController) this);
             }
         }
     }
@@ -80,26 +87,43 @@ public class BoardManager {
         return tiles[position.matrixRow()][position.matrixCol()];
     }
 
+    public ChessTile getTile(int square) {
+        return tiles[GameConstants.Board.BOARD_SIZE - 1 - square / GameConstants.Board.BOARD_SIZE][square % GameConstants.Board.BOARD_SIZE];
+    }
+
     public ChessMove getLastMove() {
         return lastMove;
     }
 
     public int getHalfmoveClock() {
-        return halfmoveClock;
+        return chessPieceMap.getPosition().getHalfmoveClock();
     }
 
     public int getFullmoveNumber() {
-        return fullmoveNumber;
+        return chessPieceMap.getPosition().getFullmoveNumber();
     }
 
-    public Map<String, Integer> getBoardStateHistory() {
-        return boardStateHistory;
+    public long[] getPositionHistory() {
+        return positionHistory;
+    }
+
+    public int getPositionHistorySize() {
+        return positionHistorySize;
     }
 
     public ChessNotationUtils getNotationUtils() {
         return notationUtils;
     }
 
+    // Trạng thái ván và nước hợp lệ của bên đang đi, tính một lần sau mỗi lượt
+    public GameEvaluation getGameEvaluation() {
+        return gameEvaluation;
+    }
+
+    public LegalMoves getLegalMoves() {
+        return legalMoveCache.get(chessPieceMap.getPosition());
+    }
+
     public List<ChessMove> getCurrentValidMoves() {
         return currentValidMoves;
     }
@@ -111,7 +135,7 @@ public class BoardManager {
     }
 
     public void setPiece(int x, int y, ChessPiece piece) {
-        setPiece(new ChessPosition(x, y), piece);
+        setPiece(ChessPosition.of(x, y), piece);
     }
 
     public void setCurrentLeftClickedTile(ChessTile tile) {
@@ -136,11 +160,11 @@ public class BoardManager {
     }
 
     public void setHalfmoveClock(int halfmoveClock) {
-        this.halfmoveClock = halfmoveClock;
+        chessPieceMap.getPosition().setHalfmoveClock(halfmoveClock);
     }
 
     public void setFullmoveNumber(int fullmoveNumber) {
-        this.fullmoveNumber = fullmoveNumber;
+        chessPieceMap.getPosition().setFullmoveNumber(fullmoveNumber);
     }
 
     // Core methods
@@ -148,13 +172,19 @@ public class BoardManager {
         clear();
         placeInitialPieces(PieceColor.WHITE, 0, 1);
         placeInitialPieces(PieceColor.BLACK, 7, 6);
+        currentPlayerColor = PieceColor.WHITE;
+        chessPieceMap.getPosition().setCastlingRights(BitboardPosition.ALL_CASTLING);
+        positionHistorySize = 0;
+        updateBoardStateHistory();
+        evaluateGameStatus();
     }
 
     public void switchTurn() {
         currentPlayerColor = currentPlayerColor.getOpponent();
         clearCurrentValidMoves();
         setCurrentLeftClickedTile(null);
-        fullmoveNumber++;
+        updateBoardStateHistory();
+        evaluateGameStatus();
         logger.debug("Switched turn to: {}", currentPlayerColor);
     }
 
@@ -173,17 +203,29 @@ public class BoardManager {
         getTile(position).setPiece(null);
     }
 
-    public void updatePieceMovement(ChessMove move) {
-        ChessPiece piece = getPiece(move.end());
-        if (piece != null) {
-            piece.setHasMoved(true);
+    /**
+     * Đi một nước hợp lệ trên bàn cờ thật qua {@link ChessPieceMap#applyMove}, rồi cập nhật các ô thay đổi.
+     * Nhập thành, bắt tốt qua đường và phong cấp được nhận ra từ nước đi. Trả về quân bị bắt hoặc null.
+     */
+    public ChessPiece applyMove(ChessMove move, ChessPiece promotion) {
+        ChessPiece captured = chessPieceMap.applyMove(move, promotion);
+        for (ChessTile[] row : tiles) {
+            for (ChessTile tile : row) {
+                ChessPiece piece = chessPieceMap.getPiece(tile.getPosition());
+                if (tile.getPiece() != piece) {
+                    tile.setPiece(piece);
+                }
+            }
         }
+        setLastMove(move);
+        return captured;
     }
 
     public void updateBoardStateHistory() {
-        String partialFEN = notationUtils.getPartialFEN(this);
-        boardStateHistory.put(partialFEN, boardStateHistory.getOrDefault(partialFEN, 0) + 1);
-        logger.debug("Updated board state (partial FEN): {}, occurrences: {}", partialFEN, boardStateHistory.get(partialFEN));
+        if (positionHistorySize == positionHistory.length) {
+            positionHistory = Arrays.copyOf(positionHistory, positionHistorySize * 2);
+        }
+        positionHistory[positionHistorySize++] = chessPieceMap.getPosition().getHash();
     }
 
     public void repaintTiles(ChessTile... tiles) {
@@ -193,28 +235,24 @@ public class BoardManager {
     }
 
     // Helper methods
+    private void evaluateGameStatus() {
+        gameEvaluation = GameStatusEvaluator.evaluate(chessPieceMap, getLegalMoves(), positionHistory, positionHistorySize);
+    }
+
     private void placeInitialPieces(PieceColor color, int backRow, int pawnRow) {
-        setPiece(0, backRow, new Rook(color));
-        setPiece(1, backRow, new Knight(color));
-        setPiece(2, backRow, new Bishop(color));
-        setPiece(3, backRow, new Queen(color));
-        setPiece(4, backRow, new King(color));
-        setPiece(5, backRow, new Bishop(color));
-        setPiece(6, backRow, new Knight(color));
-        setPiece(7, backRow, new Rook(color));
+        PieceType[] backRank = {PieceType.ROOK, PieceType.KNIGHT, PieceType.BISHOP, PieceType.QUEEN, PieceType.KING, PieceType.BISHOP, PieceType.KNIGHT, PieceType.ROOK};
         for (int col = 0; col < 8; col++) {
-            setPiece(col, pawnRow, new Pawn(color, this));
+            setPiece(col, backRow, Pieces.get(backRank[col], color));
+            setPiece(col, pawnRow, Pieces.get(PieceType.PAWN, color));
         }
     }
 
     private void generateAndHighlightValidMoves(ChessTile tile) {
-        currentValidMoves = tile.getPiece().generateValidMoves(tile.getPosition(), chessPieceMap);
+        currentValidMoves = getLegalMoves().from(tile.getPosition());
         for (ChessMove move : currentValidMoves) {
-            if (BoardUtils.isMoveValidUnderCheck(move, chessPieceMap)) {
-                ChessTile endTile = getTile(move.end());
-                if (endTile != null) {
-                    endTile.setValidMove(true);
-                }
+            ChessTile endTile = getTile(move.end());
+            if (endTile != null) {
+                endTile.setValidMove(true);
             }
         }
     }
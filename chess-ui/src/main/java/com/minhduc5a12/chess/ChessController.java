@@ -2,29 +2,25 @@ package com.minhduc5a12.chess;
 
 import com.minhduc5a12.chess.constants.GameMode;
 import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
 import com.minhduc5a12.chess.model.ChessMove;
 import com.minhduc5a12.chess.model.ChessPiece;
 import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.model.GameEvaluation;
 import com.minhduc5a12.chess.pieces.*;
-import com.minhduc5a12.chess.players.StockfishPlayer;
+import com.minhduc5a12.chess.players.EnginePlayer;
 import com.minhduc5a12.chess.ui.GameOverDialog;
 import com.minhduc5a12.chess.ui.PromotionDialog;
-import com.minhduc5a12.chess.utils.BoardUtils;
 import com.minhduc5a12.chess.utils.SoundPlayer;
 
 import javax.swing.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class ChessController extends BoardManager implements MoveExecutor {
-    private static final int FIFTY_MOVE_RULE_LIMIT = 50;
-
     private boolean gameEnded;
     private JFrame frame;
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
-    private StockfishPlayer stockfishPlayer;
+    private EnginePlayer enginePlayer;
     private int gameMode = GameMode.PLAYER_VS_PLAYER;
     private PieceColor humanPlayerColor;
 
@@ -47,16 +43,16 @@ public class ChessController extends BoardManager implements MoveExecutor {
     public void setPlayerVsAI(PieceColor humanColor) {
         this.gameMode = GameMode.PLAYER_VS_AI;
         this.humanPlayerColor = humanColor;
-        this.stockfishPlayer = new StockfishPlayer(this, humanColor.getOpponent());
+        this.enginePlayer = new EnginePlayer(this, humanColor.getOpponent());
         if (humanColor.isBlack()) {
-            stockfishPlayer.makeMove();
+            enginePlayer.makeMove();
         }
     }
 
     public void setAIVsAI() {
         this.gameMode = GameMode.AI_VS_AI;
-        this.stockfishPlayer = new StockfishPlayer(this, PieceColor.WHITE);
-        stockfishPlayer.makeMove();
+        this.enginePlayer = new EnginePlayer(this, PieceColor.WHITE);
+        enginePlayer.makeMove();
     }
 
     private void notifyScoreUpdated() {
@@ -81,54 +77,32 @@ public class ChessController extends BoardManager implements MoveExecutor {
 
     @Override
     public boolean executeMove(ChessMove move) {
-        ChessPiece piece = getPiece(move.start());
-
-        boolean isCapture = getPiece(move.end()) != null;
-        boolean isPawnMove = piece instanceof Pawn;
-
-        ChessTile startTile = getTile(move.start());
-        ChessTile endTile = getTile(move.end());
+        return executeMove(move, null);
+    }
 
-        if (isCapture) {
-            ChessPiece capturedPiece = getPiece(move.end());
-            notifyPieceCaptured(piece.getColor(), capturedPiece);
-        }
+    // promotionType do engine chọn; null nghĩa là nước của người chơi, khi phong cấp sẽ mở hộp thoại chọn quân
+    private boolean executeMove(ChessMove move, PieceType promotionType) {
+        ChessPiece piece = getPiece(move.start());
 
+        ChessPiece promotion = null;
         if (piece instanceof Pawn && (move.end().row() == 7 || move.end().row() == 0)) {
-            piece = promotePawn(move.end(), piece.getColor());
+            promotion = promotionType != null ? Pieces.get(promotionType, piece.getColor()) : promotePawn(move.end(), piece.getColor());
             SoundPlayer.playMoveSound();
         }
-        removePiece(move.end());
-        setPiece(move.end(), piece);
-        removePiece(move.start());
-
-        setLastMove(move);
-        updatePieceMovement(move);
-
-        updateBoardStateHistory();
-        if (BoardUtils.isThreefoldRepetition(this)) {
-            gameEnded = true;
-            SwingUtilities.invokeLater(() -> {
-                GameOverDialog dialog = new GameOverDialog(frame, "Hòa do lặp lại 3 lần!");
-                dialog.setVisible(true);
-            });
-            logger.info("Game ended due to threefold repetition (FIDE)");
-            repaintTiles(startTile, endTile);
-            return true;
-        }
 
-        repaintTiles(startTile, endTile);
-        if (isCapture || isPawnMove) {
-            halfmoveClock = 0;
-        } else {
-            halfmoveClock++;
+        // Quyền nhập thành, ô en passant và đồng hồ nửa nước do thế cờ tự cập nhật trong makeMove
+        ChessPiece capturedPiece = applyMove(move, promotion);
+        boolean isCapture = capturedPiece != null;
+        if (isCapture) {
+            notifyPieceCaptured(piece.getColor(), capturedPiece);
         }
 
+        // switchTurn ghi khóa Zobrist rồi đánh giá trạng thái ván
         switchTurn();
         notifyTurnChanged();
         notifyScoreUpdated();
 
-        boolean isCheck = BoardUtils.isKingInCheck(currentPlayerColor, getChessPieceMap());
+        boolean isCheck = getGameEvaluation().inCheck();
 
         if (isCheck) {
             SoundPlayer.playMoveCheckSound();
@@ -140,7 +114,7 @@ public class ChessController extends BoardManager implements MoveExecutor {
 
         logger.debug("Executed move: {} to {}", move.start().toChessNotation(), move.end().toChessNotation());
 
-        executor.submit(this::checkGameEndConditions);
+        handleGameEnd();
 
         return true;
     }
@@ -154,49 +128,25 @@ public class ChessController extends BoardManager implements MoveExecutor {
         }
 
         ChessPiece king = getPiece(kingPos);
-        if (!(king instanceof King kingPiece) || king.hasMoved()) {
-            logger.debug("King has moved or not found at {}", kingPos.toChessNotation());
+        if (!(king instanceof King)) {
+            logger.debug("King not found at {}", kingPos.toChessNotation());
             return false;
         }
 
-        boolean canCastle = isKingside ? kingPiece.canCastleKingside(kingPos, getChessPieceMap()) : kingPiece.canCastleQueenside(kingPos, getChessPieceMap());
-        if (!canCastle) {
+        int kingTargetCol = isKingside ? 6 : 2;
+        ChessMove castlingMove = new ChessMove(kingPos, ChessPosition.of(kingTargetCol, kingPos.row()));
+        if (!getLegalMoves().contains(castlingMove)) {
             logger.debug("Cannot castle {} for {}", isKingside ? "kingside" : "queenside", color);
             return false;
         }
 
-        int kingRow = (color.isWhite()) ? 0 : 7;
-        int rookCol = isKingside ? 7 : 0;
-
-        ChessPosition rookPos = new ChessPosition(rookCol, kingRow);
-        ChessPiece rook = getPiece(rookPos);
-
-        int kingTargetCol = isKingside ? 6 : 2;
-        int rookTargetCol = isKingside ? 5 : 3;
-
-        ChessTile kingStartTile = getTile(kingPos);
-        ChessTile kingEndTile = getTiles()[kingRow][kingTargetCol];
-        ChessTile rookStartTile = getTile(rookPos);
-        ChessTile rookEndTile = getTiles()[kingRow][rookTargetCol];
-
-        removePiece(kingPos);
-        removePiece(rookPos);
-        setPiece(new ChessPosition(kingTargetCol, kingRow), king);
-        setPiece(new ChessPosition(rookTargetCol, kingRow), rook);
-        king.setHasMoved(true);
-        rook.setHasMoved(true);
-
-        setLastMove(new ChessMove(kingPos, new ChessPosition(kingTargetCol, kingRow)));
-        updateBoardStateHistory();
-
-        repaintTiles(kingStartTile, kingEndTile, rookStartTile, rookEndTile);
+        applyMove(castlingMove, null);
         logger.debug("Castling performed: {} for {}", isKingside ? "Kingside" : "Queenside", color);
 
         switchTurn();
         notifyScoreUpdated();
         notifyTurnChanged();
-        halfmoveClock++;
-        executor.submit(this::checkGameEndConditions);
+        handleGameEnd();
 
         return true;
     }
@@ -209,54 +159,25 @@ public class ChessController extends BoardManager implements MoveExecutor {
             return false;
         }
 
-        ChessMove lastMove = getLastMove();
-        if (lastMove == null) {
-            logger.debug("No last move for en passant check");
-            return false;
-        }
-
-        ChessPiece lastMovedPiece = getPiece(lastMove.end());
-        if (!(lastMovedPiece instanceof Pawn) || Math.abs(lastMove.start().row() - lastMove.end().row()) != 2 || lastMove.end().row() != move.start().row() || Math.abs(lastMove.end().col() - move.start().col()) != 1) {
-            logger.debug("Last move does not qualify for en passant");
-            return false;
-        }
-
-        int direction = piece.getColor().isWhite() ? 1 : -1;
-        ChessPosition targetPos = move.end();
-        if (targetPos.row() != move.start().row() + direction || targetPos.col() != lastMove.end().col()) {
+        // Ô en passant là trạng thái của thế cờ, không cần tra lại nước đi trước
+        if (move.end().index() != getChessPieceMap().getPosition().getEnPassantSquare()) {
             logger.debug("Invalid en passant target position");
             return false;
         }
 
-        ChessPieceMap tempMap = BoardUtils.simulateMove(move, getChessPieceMap());
-        tempMap.removePiece(lastMove.end());
-        if (BoardUtils.isKingInCheck(piece.getColor(), tempMap)) {
+        if (!getLegalMoves().contains(move)) {
             logger.debug("En passant invalid under check");
             return false;
         }
 
-        ChessTile startTile = getTile(move.start());
-        ChessTile endTile = getTile(move.end());
-        ChessTile capturedTile = getTile(lastMove.end());
-
-        ChessPiece capturedPiece = getPiece(lastMove.end());
+        ChessPiece capturedPiece = applyMove(move, null);
         notifyPieceCaptured(piece.getColor(), capturedPiece);
+        logger.info("En passant performed: {} to {}", move.start().toChessNotation(), move.end().toChessNotation());
 
-        removePiece(lastMove.end());
-        removePiece(move.start());
-        setPiece(move.end(), piece);
-        setLastMove(move);
-        updatePieceMovement(move);
-        updateBoardStateHistory();
-
-        repaintTiles(startTile, endTile, capturedTile);
-        logger.info("En passant performed: {} to {}, captured at {}", move.start().toChessNotation(), move.end().toChessNotation(), lastMove.end().toChessNotation());
-
-        halfmoveClock = 0;
         switchTurn();
         notifyScoreUpdated();
         notifyTurnChanged();
-        executor.submit(this::checkGameEndConditions);
+        handleGameEnd();
 
         return true;
     }
@@ -266,27 +187,31 @@ public class ChessController extends BoardManager implements MoveExecutor {
         PromotionDialog dialog = new PromotionDialog(frame, color);
         dialog.setVisible(true);
         String selectedPiece = dialog.getSelectedPiece();
-        ChessPiece promotedPiece;
+        PieceType promotedType;
 
         switch (selectedPiece) {
-            case "Queen" -> promotedPiece = new Queen(color);
-            case "Rook" -> promotedPiece = new Rook(color);
-            case "Bishop" -> promotedPiece = new Bishop(color);
-            case "Knight" -> promotedPiece = new Knight(color);
+            case "Queen" -> promotedType = PieceType.QUEEN;
+            case "Rook" -> promotedType = PieceType.ROOK;
+            case "Bishop" -> promotedType = PieceType.BISHOP;
+            case "Knight" -> promotedType = PieceType.KNIGHT;
             default -> {
-                promotedPiece = new Queen(color);
+                promotedType = PieceType.QUEEN;
                 logger.error("Invalid promotion choice: {}, defaulting to Queen", selectedPiece);
             }
         }
 
         logger.info("Pawn promoted to {} at {}", selectedPiece, position.toChessNotation());
-        return promotedPiece;
+        return Pieces.get(promotedType, color);
     }
 
     public boolean movePiece(ChessMove move) {
+        return movePiece(move, null);
+    }
+
+    public boolean movePiece(ChessMove move, PieceType promotionType) {
         ChessPiece piece = getPiece(move.start());
         boolean moveSuccessful = false;
-        if (piece == null || gameEnded || !getCurrentValidMoves().contains(move) || !BoardUtils.isMoveValidUnderCheck(move, getChessPieceMap())) {
+        if (piece == null || gameEnded || !getLegalMoves().contains(move)) {
             SoundPlayer.playMoveIllegal();
             logger.debug("No piece found at start position or game ended: {}", move.start().toChessNotation());
             setCurrentLeftClickedTile(null);
@@ -312,15 +237,15 @@ public class ChessController extends BoardManager implements MoveExecutor {
                 }
             }
             default -> {
-                moveSuccessful = executeMove(move);
+                moveSuccessful = executeMove(move, promotionType);
             }
         }
 
-        if (moveSuccessful && stockfishPlayer != null) {
+        if (moveSuccessful && enginePlayer != null) {
             if (gameMode == GameMode.PLAYER_VS_AI && currentPlayerColor != humanPlayerColor) {
-                stockfishPlayer.makeMove();
+                enginePlayer.makeMove();
             } else if (gameMode == GameMode.AI_VS_AI) {
-                stockfishPlayer.makeMove();
+                enginePlayer.makeMove();
             }
         }
 
@@ -338,39 +263,35 @@ public class ChessController extends BoardManager implements MoveExecutor {
     }
 
     public void shutdown() {
-        executor.shutdown();
         SoundPlayer.shutdown();
         if (this.gameMode == GameMode.AI_VS_AI) {
-            stockfishPlayer.shutdown();
+            enginePlayer.shutdown();
         }
     }
 
-    private void checkGameEndConditions() {
-        if (BoardUtils.isCheckmate(currentPlayerColor, getChessPieceMap())) {
-            gameEnded = true;
-            SwingUtilities.invokeLater(this::showGameOverDialog);
-        } else if (halfmoveClock >= FIFTY_MOVE_RULE_LIMIT) {
-            gameEnded = true;
-            SwingUtilities.invokeLater(() -> {
-                GameOverDialog dialog = new GameOverDialog(frame, "Hòa do luật 50 nước!");
-                dialog.setVisible(true);
-            });
-            logger.info("Game ended due to 50-move rule");
-        } else if (BoardUtils.isDeadPosition(getChessPieceMap())) {
-            gameEnded = true;
-            SwingUtilities.invokeLater(() -> {
-                GameOverDialog dialog = new GameOverDialog(frame, "Hòa do không đủ quân để chiếu hết!");
-                dialog.setVisible(true);
-            });
-            logger.info("Game ended due to dead position (insufficient material)");
-        } else if (BoardUtils.isStalemate(currentPlayerColor, getChessPieceMap())) {
-            gameEnded = true;
-            SwingUtilities.invokeLater(() -> {
-                GameOverDialog dialog = new GameOverDialog(frame, "Hòa do bất biến (Stalemate)!");
-                dialog.setVisible(true);
-            });
-            logger.info("Game ended due to stalemate");
+    private void handleGameEnd() {
+        GameEvaluation evaluation = getGameEvaluation();
+        if (!evaluation.isGameOver()) {
+            return;
+        }
+        gameEnded = true;
+        switch (evaluation.status()) {
+            case CHECKMATE -> SwingUtilities.invokeLater(this::showGameOverDialog);
+            case FIFTY_MOVE_RULE -> showDrawDialog("Hòa do luật 50 nước!");
+            case INSUFFICIENT_MATERIAL -> showDrawDialog("Hòa do không đủ quân để chiếu hết!");
+            case STALEMATE -> showDrawDialog("Hòa do bất biến (Stalemate)!");
+            case THREEFOLD_REPETITION -> showDrawDialog("Hòa do lặp lại 3 lần!");
+            default -> {
+            }
         }
+        logger.info("Game ended: {}", evaluation.status());
+    }
+
+    private void showDrawDialog(String message) {
+        SwingUtilities.invokeLater(() -> {
+            GameOverDialog dialog = new GameOverDialog(frame, message);
+            dialog.setVisible(true);
+        });
     }
 
     public int getGameMode() {
@@ -1,5 +1,6 @@
 package com.minhduc5a12.chess;
 
+import com.minhduc5a12.chess.bitboard.Attacks;
 import com.minhduc5a12.chess.utils.ImageLoader;
 import com.minhduc5a12.chess.utils.SoundPlayer;
 
@@ -15,6 +16,7 @@ public class ChessGame {
         // Preload tài nguyên
         ImageLoader.preloadImages();
         SoundPlayer.preloadSounds();
+        Attacks.preload();
 
         // Chạy game
         ChessLauncher.launch();
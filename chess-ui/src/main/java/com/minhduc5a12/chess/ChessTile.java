@@ -5,6 +5,8 @@ import com.minhduc5a12.chess.constants.GameMode;
 import com.minhduc5a12.chess.model.ChessMove;
 import com.minhduc5a12.chess.model.ChessPiece;
 import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.model.LegalMoves;
+import com.minhduc5a12.chess.utils.PieceSprites;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,7 +84,7 @@ public class ChessTile extends JPanel {
     }
 
     private void drawPiece(Graphics g) {
-        Image image = piece.getImage();
+        Image image = PieceSprites.getImage(piece);
         if (image != null) {
             int offsetX = (tileSize - pieceSize) / 2;
             int offsetY = (tileSize - pieceSize) / 2;
@@ -172,11 +174,11 @@ public class ChessTile extends JPanel {
     private class ChessTileMouseMotionListener extends MouseMotionAdapter {
         @Override
         public void mouseMoved(MouseEvent e) {
-            if (piece != null) {
-                setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-                return;
-            }
-            setCursor(Cursor.getPredefinedCursor(Cursor.DEFAULT_CURSOR));
+            // Bàn tay khi ô có quân đi được hoặc là ô đích của quân đang chọn, tra từ bộ đệm nước hợp lệ
+            LegalMoves legalMoves = chessController.getLegalMoves();
+            ChessTile selectedTile = chessController.getCurrentLeftClickedTile();
+            boolean actionable = legalMoves.hasMovesFrom(position) || (selectedTile != null && legalMoves.contains(selectedTile.getPosition().index(), position.index()));
+            setCursor(Cursor.getPredefinedCursor(actionable ? Cursor.HAND_CURSOR : Cursor.DEFAULT_CURSOR));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.minhduc5a12.chess.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Chọn engine theo -Dchess.engine=stockfish|builtin và số luồng theo -Dchess.engine.threads (mặc định 1);
+// Stockfish được khởi động và bắt tay UCI ngay tại đây, thiếu file hoặc không khởi động được thì dùng engine Java
+public final class Engines {
+    private static final Logger logger = LoggerFactory.getLogger(Engines.class);
+
+    private Engines() {
+        throw new AssertionError("Cannot instantiate Engines class");
+    }
+
+    public static ChessEngine create() {
+        boolean builtin = "builtin".equals(System.getProperty("chess.engine"));
+        int threads = Math.max(1, Integer.getInteger("chess.engine.threads", 1));
+        if (!builtin) {
+            if (!Stockfish.isAvailable()) {
+                logger.warn("Stockfish executable not found, falling back to built-in engine");
+            } else {
+                Stockfish stockfish = new Stockfish(threads);
+                try {
+                    stockfish.start();
+                    return stockfish;
+                } catch (RuntimeException e) {
+                    logger.warn("Stockfish failed to start, falling back to built-in engine", e);
+                }
+            }
+        }
+        return new AlphaBetaEngine(AlphaBetaEngine.DEFAULT_HASH_MB, threads);
+    }
+}
@@ -0,0 +1,222 @@
+package com.minhduc5a12.chess.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Stockfish implements ChessEngine {
+    private static final Logger logger = LoggerFactory.getLogger(Stockfish.class);
+    // File chạy được nhưng không phải engine UCI có thể treo mãi; quá hạn này thì hủy tiến trình
+    private static final long HANDSHAKE_TIMEOUT_SECONDS = 5;
+    private Process stockfishProcess;
+    private BufferedReader reader;
+    private volatile BufferedWriter writer;
+    private volatile boolean ready;
+    private final int threads;
+    // Cùng cách với AlphaBetaEngine: stop() ghi lại lượt mới nhất đã yêu cầu, lượt có searchId <= lastStopped bị dừng
+    private final AtomicLong lastRequested = new AtomicLong();
+    private volatile long lastStopped;
+
+    public Stockfish() {
+        this(1);
+    }
+
+    // threads: giá trị tùy chọn UCI "Threads" của Stockfish
+    public Stockfish(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    // Nối với một engine UCI qua luồng vào/ra có sẵn (dùng trong kiểm thử) và bắt tay ngay
+    Stockfish(int threads, InputStream input, OutputStream output) throws IOException {
+        this(threads);
+        connect(input, output);
+    }
+
+    private static String executableName() {
+        String os = System.getProperty("os.name").toLowerCase();
+        return os.contains("win") ? "stockfish.exe" : "stockfish";
+    }
+
+    // File thực thi có trong resources cho hệ điều hành hiện tại hay không
+    public static boolean isAvailable() {
+        return Stockfish.class.getClassLoader().getResource(executableName()) != null;
+    }
+
+    @Override
+    public String getName() {
+        return "Stockfish";
+    }
+
+    // File thực thi cho hệ điều hành hiện tại; nếu nằm trong jar (bản shade) thì chép ra file tạm để chạy được
+    private static Path resolveExecutable() throws IOException {
+        String stockfishFile = executableName();
+        URL resource = Stockfish.class.getClassLoader().getResource(stockfishFile);
+        if (resource == null) {
+            throw new FileNotFoundException("Stockfish executable not found: " + stockfishFile);
+        }
+        Path path;
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                path = Paths.get(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid Stockfish path: " + resource, e);
+            }
+        } else {
+            path = Files.createTempFile("stockfish", stockfishFile.endsWith(".exe") ? ".exe" : "");
+            path.toFile().deleteOnExit();
+            try (InputStream input = resource.openStream()) {
+                Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            path.toFile().setExecutable(true);
+        }
+        if (Files.size(path) == 0 || !Files.isExecutable(path)) {
+            throw new IOException("Stockfish executable is empty or not executable: " + path);
+        }
+        return path;
+    }
+
+    private void startEngine() {
+        try {
+            Path stockfishPath = resolveExecutable();
+            logger.info("Starting Stockfish at path: {}", stockfishPath);
+            ProcessBuilder pb = new ProcessBuilder(stockfishPath.toString());
+            pb.redirectErrorStream(true);
+            Process process = pb.start();
+            stockfishProcess = process;
+            CompletableFuture.delayedExecutor(HANDSHAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS).execute(() -> {
+                if (!ready) {
+                    // Cả tiến trình con, nếu không chúng vẫn giữ luồng ra và readLine không bao giờ trả về
+                    process.descendants().forEach(ProcessHandle::destroy);
+                    process.destroy();
+                }
+            });
+            connect(process.getInputStream(), process.getOutputStream());
+        } catch (IOException e) {
+            logger.error("Failed to start Stockfish", e);
+            stopEngine();
+            throw new RuntimeException("Stockfish initialization failed", e);
+        }
+    }
+
+    // Gửi "uci" và chờ "uciok"; tiến trình đóng luồng ra trước khi trả lời nghĩa là không phải engine UCI dùng được
+    private void connect(InputStream input, OutputStream output) throws IOException {
+        reader = new BufferedReader(new InputStreamReader(input));
+        writer = new BufferedWriter(new OutputStreamWriter(output));
+        sendCommand("uci");
+        String line;
+        while ((line = reader.readLine()) != null && !line.contains("uciok")) {
+            logger.debug("Stockfish: {}", line);
+        }
+        if (line == null) {
+            throw new IOException("Stockfish exited before uciok");
+        }
+        ready = true;
+        logger.info("Stockfish initialized successfully");
+        if (threads > 1) {
+            sendCommand("setoption name Threads value " + threads);
+        }
+    }
+
+    // Đồng bộ vì stop() được gọi từ luồng Swing trong khi getBestMove chạy trên luồng engine
+    public synchronized void sendCommand(String command) {
+        try {
+            logger.debug("Sending command to Stockfish: {}", command);
+            writer.write(command + "\n");
+            writer.flush();
+        } catch (Exception e) {
+            logger.error("Error sending command to Stockfish: {}", command, e);
+            throw new RuntimeException("Error sending command to Stockfish", e);
+        }
+    }
+
+    public List<String> getOutput() {
+        List<String> output = new ArrayList<>();
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+                if (line.contains("bestmove")) break;
+            }
+        } catch (IOException e) {
+            logger.error("Error reading Stockfish output", e);
+        }
+        return output;
+    }
+
+    @Override
+    public String getBestMove(String fen, SearchLimits limits) {
+        return getBestMove(requestSearch(), fen, null, 0, limits);
+    }
+
+    @Override
+    public long requestSearch() {
+        return lastRequested.incrementAndGet();
+    }
+
+    // Stockfish không nhận khóa Zobrist nên bỏ qua history
+    @Override
+    public String getBestMove(long searchId, String fen, long[] history, int historySize, SearchLimits limits) {
+        sendCommand("position fen " + fen);
+        sendCommand(limits.toUciGo());
+        // stop() đến trước "go" bị Stockfish bỏ qua khi đang rảnh, nên gửi lại ngay sau "go"
+        if (searchId <= lastStopped) {
+            sendCommand("stop");
+        }
+        List<String> output = getOutput();
+        for (String line : output) {
+            if (line.startsWith("bestmove")) {
+                String[] parts = line.split(" ");
+                return parts[1].equals("(none)") ? null : parts[1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void stop() {
+        lastStopped = lastRequested.get();
+        if (writer != null) {
+            sendCommand("stop");
+        }
+    }
+
+    @Override
+    public void stopEngine() {
+        if (writer != null) {
+            try {
+                sendCommand("quit");
+            } catch (RuntimeException e) {
+                logger.debug("Stockfish already closed", e);
+            }
+        }
+        if (stockfishProcess != null) {
+            stockfishProcess.destroy();
+            try {
+                stockfishProcess.waitFor();
+            } catch (InterruptedException e) {
+                logger.error("Error stopping Stockfish", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Khởi động đồng bộ: trả về khi Stockfish đã trả lời "uciok", lỗi thì ném RuntimeException; gọi lại khi đã chạy thì bỏ qua
+    @Override
+    public synchronized void start() {
+        if (!ready) {
+            startEngine();
+        }
+    }
+}
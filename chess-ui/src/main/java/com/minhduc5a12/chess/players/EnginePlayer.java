@@ -0,0 +1,118 @@
+package com.minhduc5a12.chess.players;
+
+import com.minhduc5a12.chess.ChessController;
+import com.minhduc5a12.chess.ChessTile;
+import com.minhduc5a12.chess.constants.PieceColor;
+import com.minhduc5a12.chess.constants.PieceType;
+import com.minhduc5a12.chess.engine.ChessEngine;
+import com.minhduc5a12.chess.engine.Engines;
+import com.minhduc5a12.chess.engine.SearchLimits;
+import com.minhduc5a12.chess.model.ChessMove;
+import com.minhduc5a12.chess.model.ChessPosition;
+import com.minhduc5a12.chess.utils.ChessNotationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class EnginePlayer {
+    private static final Logger logger = LoggerFactory.getLogger(EnginePlayer.class);
+    private final ChessEngine engine;
+    private final ChessController chessController;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ChessNotationUtils chessNotationUtils = new ChessNotationUtils();
+    // Thời gian trả lời mỗi nước, cũng là nhịp đi quân khi AI đấu AI
+    private static final SearchLimits MOVE_LIMITS = SearchLimits.ofMoveTime(1500);
+    private final PieceColor engineColor;
+
+    public EnginePlayer(ChessController chessController, PieceColor engineColor) {
+        this.engine = Engines.create();
+        this.engine.start();
+        this.chessController = chessController;
+        this.engineColor = engineColor;
+        logger.info("{} player initialized with color: {}", engine.getName(), engineColor.isWhite() ? "White" : "Black");
+    }
+
+    // Gọi trên luồng Swing. Chỉ việc tìm nước chạy trên luồng engine; nước đi được áp dụng lại trên luồng Swing
+    // nên bàn cờ và bộ đệm nước hợp lệ chỉ bị một luồng đụng tới
+    public void makeMove() {
+        long searchId = engine.requestSearch();
+        // Chụp thế cờ và lịch sử ván ngay lúc yêu cầu; phần tử cuối của lịch sử là chính thế cờ hiện tại nên bỏ đi
+        String fen = chessNotationUtils.getFEN(chessController.getChessPieceMap());
+        int historySize = chessController.getPositionHistorySize() - 1;
+        long[] history = Arrays.copyOf(chessController.getPositionHistory(), historySize);
+        executor.submit(() -> {
+            try {
+                String bestMoveStr = engine.getBestMove(searchId, fen, history, historySize, MOVE_LIMITS);
+                if (bestMoveStr != null) {
+                    SwingUtilities.invokeLater(() -> applyMove(bestMoveStr));
+                } else {
+                    logger.warn("No best move returned by {}", engine.getName());
+                }
+            } catch (Exception e) {
+                logger.error("Error making move with {}", engine.getName(), e);
+            }
+        });
+    }
+
+    private void applyMove(String bestMoveStr) {
+        if (chessController.isGameEnded()) return;
+        String startPos = bestMoveStr.substring(0, 2);
+        String endPos = bestMoveStr.substring(2, 4);
+        ChessPosition start = ChessPosition.toChessPosition(startPos);
+        ChessPosition end = ChessPosition.toChessPosition(endPos);
+        ChessMove move = new ChessMove(start, end);
+
+        ChessTile startTile = chessController.getTile(start);
+        if (startTile != null && startTile.getPiece() != null) {
+            chessController.setCurrentLeftClickedTile(startTile);
+            logger.debug("Generated valid moves for AI piece at {}", startPos);
+        } else {
+            logger.warn("No piece found at start position: {}", startPos);
+            return;
+        }
+
+        PieceType promotionType = null;
+        if (bestMoveStr.length() > 4) {
+            promotionType = promotionType(bestMoveStr.charAt(4));
+            logger.info("Promotion detected: {} to {} with promotion to {}", startPos, endPos, promotionType);
+        } else if (isCastling(start, end)) {
+            logger.info("Castling move detected: {} to {}", startPos, endPos);
+        } else {
+            logger.info("Best move from {}: {} to {}", engine.getName(), startPos, endPos);
+        }
+
+        boolean success = chessController.movePiece(move, promotionType);
+        if (!success) {
+            logger.warn("Failed to execute {} move: {} to {}", engine.getName(), startPos, endPos);
+        } else {
+            chessController.setCurrentLeftClickedTile(null);
+        }
+    }
+
+    // Ký tự phong cấp cuối nước UCI (q, r, b, n); engine chọn quân nên không hỏi người chơi
+    private static PieceType promotionType(char symbol) {
+        return switch (symbol) {
+            case 'r' -> PieceType.ROOK;
+            case 'b' -> PieceType.BISHOP;
+            case 'n' -> PieceType.KNIGHT;
+            default -> PieceType.QUEEN;
+        };
+    }
+
+    private boolean isCastling(ChessPosition start, ChessPosition end) {
+        if (start.row() == end.row() && Math.abs(start.col() - end.col()) == 2) {
+            return start.toChessNotation().equals("e1") || start.toChessNotation().equals("e8");
+        }
+        return false;
+    }
+
+    public void shutdown() {
+        engine.stop();
+        engine.stopEngine();
+        executor.shutdown();
+    }
+}
\ No newline at end of file
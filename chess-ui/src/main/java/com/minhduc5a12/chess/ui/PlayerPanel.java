@@ -5,6 +5,7 @@ import com.minhduc5a12.chess.PlayerPanelListener;
 import com.minhduc5a12.chess.constants.PieceColor;
 import com.minhduc5a12.chess.model.ChessPiece;
 import com.minhduc5a12.chess.utils.ImageLoader;
+import com.minhduc5a12.chess.utils.PieceSprites;
 
 import javax.swing.*;
 import java.awt.*;
@@ -99,7 +100,7 @@ public class PlayerPanel extends JPanel implements PlayerPanelListener {
             ChessPiece piece = entry.getKey();
             int count = entry.getValue();
             for (int i = 0; i < count; i++) {
-                Image pieceImage = piece.getImage();
+                Image pieceImage = PieceSprites.getImage(piece);
                 if (pieceImage != null) {
                     Image scaledImage = pieceImage.getScaledInstance(CAPTURED_PIECE_SIZE, CAPTURED_PIECE_SIZE, Image.SCALE_SMOOTH);
                     JLabel pieceLabel = new JLabel(new ImageIcon(scaledImage));
@@ -0,0 +1,20 @@
+package com.minhduc5a12.chess.utils;
+
+import com.minhduc5a12.chess.model.ChessPiece;
+
+import java.awt.*;
+import java.util.Locale;
+
+// Ánh xạ loại quân + màu sang hình ảnh; chỉ phía UI mới nạp ảnh, lõi cờ không phụ thuộc AWT
+public class PieceSprites {
+    private static final int PIECE_IMAGE_SIZE = 95;
+
+    private PieceSprites() {
+        throw new AssertionError("Cannot instantiate PieceSprites class");
+    }
+
+    public static Image getImage(ChessPiece piece) {
+        String fileName = piece.getColor().name().toLowerCase(Locale.ROOT) + "_" + piece.getPieceType().name().toLowerCase(Locale.ROOT) + ".png";
+        return ImageLoader.getImage("images/pieces/" + fileName, PIECE_IMAGE_SIZE, PIECE_IMAGE_SIZE);
+    }
+}
@@ -16,13 +16,25 @@ public class SoundPlayer {
     private static final Logger logger = LoggerFactory.getLogger(SoundPlayer.class);
     private static final ExecutorService soundExecutor = Executors.newFixedThreadPool(2);
     private static final Map<String, Boolean> soundCache = new HashMap<>();
+    // -Dchess.sound=false tắt âm thanh ngay từ đầu (benchmark, máy chủ không có thiết bị âm thanh)
+    private static volatile boolean enabled = !"false".equals(System.getProperty("chess.sound"));
 
     static {
-        warmUpThreadPool();
-        preloadSounds();
+        if (enabled) {
+            warmUpThreadPool();
+            preloadSounds();
+        }
+    }
+
+    // Tắt âm thanh khi chạy không giao diện (benchmark, kiểm thử)
+    public static void setEnabled(boolean enabled) {
+        SoundPlayer.enabled = enabled;
     }
 
     public static void playSound(String soundFilePath) {
+        if (!enabled) {
+            return;
+        }
         if (soundFilePath == null || soundFilePath.isEmpty()) {
             logger.warn("Invalid sound file path");
             return;
@@ -0,0 +1,108 @@
+package com.minhduc5a12.chess.engine;
+
+import com.minhduc5a12.chess.bitboard.Fen;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StockfishTest {
+    private PipedInputStream stockfishInput;
+    private PipedOutputStream stockfishOutput;
+    private Thread fakeEngine;
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    // Engine UCI giả: trả lời "uciok", "go infinite" chỉ kết thúc khi nhận "stop", giống Stockfish thật khi rảnh thì bỏ qua "stop"
+    @Before
+    public void startFakeEngine() throws IOException {
+        PipedOutputStream engineOutput = new PipedOutputStream();
+        stockfishInput = new PipedInputStream(engineOutput);
+        stockfishOutput = new PipedOutputStream();
+        PipedInputStream engineInput = new PipedInputStream(stockfishOutput);
+        fakeEngine = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(engineInput));
+                 PrintWriter out = new PrintWriter(engineOutput, true)) {
+                boolean searching = false;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    received.add(line);
+                    if (line.equals("uci")) {
+                        out.println("id name Fake");
+                        out.println("uciok");
+                    } else if (line.startsWith("go")) {
+                        searching = true;
+                        if (!line.equals("go infinite")) {
+                            out.println("bestmove e2e4");
+                            searching = false;
+                        }
+                    } else if (line.equals("stop") && searching) {
+                        out.println("bestmove e2e4");
+                        searching = false;
+                    } else if (line.equals("quit")) {
+                        return;
+                    }
+                }
+            } catch (IOException ignored) {
+                // Stockfish đã đóng luồng
+            }
+        });
+        fakeEngine.setDaemon(true);
+        fakeEngine.start();
+    }
+
+    @After
+    public void stopFakeEngine() throws IOException, InterruptedException {
+        stockfishOutput.close();
+        fakeEngine.join(1000);
+    }
+
+    private Stockfish connect() throws IOException {
+        return new Stockfish(1, stockfishInput, stockfishOutput);
+    }
+
+    @Test(timeout = 5000)
+    public void handshakeWaitsForUciok() throws IOException {
+        Stockfish stockfish = connect();
+        assertEquals("uci", received.get(0));
+        stockfish.stopEngine();
+    }
+
+    @Test(timeout = 5000)
+    public void stopBeforeGoStillEndsInfiniteSearch() throws IOException {
+        Stockfish stockfish = connect();
+        long searchId = stockfish.requestSearch();
+        stockfish.stop();
+        assertEquals("e2e4", stockfish.getBestMove(searchId, Fen.START_POSITION, null, 0, SearchLimits.ofInfinite()));
+        assertTrue(received.indexOf("go infinite") < received.lastIndexOf("stop"));
+        stockfish.stopEngine();
+    }
+
+    @Test(timeout = 5000)
+    public void stopForEarlierSearchDoesNotStopNextOne() throws IOException {
+        Stockfish stockfish = connect();
+        stockfish.stop();
+        long searchId = stockfish.requestSearch();
+        assertEquals("e2e4", stockfish.getBestMove(searchId, Fen.START_POSITION, null, 0, SearchLimits.ofDepth(1)));
+        assertEquals("go depth 1", received.get(received.size() - 1));
+        stockfish.stopEngine();
+    }
+
+    @Test(timeout = 5000, expected = IOException.class)
+    public void closedOutputBeforeUciokFails() throws IOException {
+        PipedOutputStream engineOutput = new PipedOutputStream();
+        PipedInputStream stockfishInput = new PipedInputStream(engineOutput);
+        engineOutput.close();
+        new Stockfish(1, stockfishInput, new PipedOutputStream(new PipedInputStream()));
+    }
+}